@@ -0,0 +1,80 @@
+package com.praktikum.testing.otomation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency per operasi untuk primitive BasePage (enterText, click, getText, isDisplayed)
+ * dan biaya membuat page object (PageFactory.initElements)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BasePageBenchmark {
+
+    private BenchPage page;
+
+    @Setup(Level.Trial)
+    public void createPage(BrowserState browser) {
+        page = new BenchPage(browser.driver);
+    }
+
+    @Benchmark
+    public BenchPage constructPage(BrowserState browser) {
+        return new BenchPage(browser.driver);
+    }
+
+    @Benchmark
+    public void enterText() {
+        page.enterName("benchmark");
+    }
+
+    @Benchmark
+    public void click() {
+        page.clickButton();
+    }
+
+    @Benchmark
+    public String getText() {
+        return page.readText();
+    }
+
+    @Benchmark
+    public boolean isDisplayed() {
+        return page.isTextDisplayed();
+    }
+
+    @Benchmark
+    public boolean isDisplayedNowPresent() {
+        return page.probeText();
+    }
+
+    @Benchmark
+    public boolean isDisplayedNowMissing() {
+        return page.probeMissing();
+    }
+
+    @Benchmark
+    public boolean isDisplayedNowHidden() {
+        return page.probeHidden();
+    }
+
+    @Benchmark
+    public int findElementList() {
+        return page.productCount();
+    }
+}
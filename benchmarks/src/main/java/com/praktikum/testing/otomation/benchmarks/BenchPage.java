@@ -0,0 +1,69 @@
+package com.praktikum.testing.otomation.benchmarks;
+
+import com.praktikum.testing.otomation.pages.BasePage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+
+import java.util.List;
+
+/**
+ * Page object untuk bench-page.html; membuka method protected BasePage untuk benchmark.
+ * Field @FindBy package-private supaya diisi binder hasil PageLocatorProcessor, sama seperti page object asli
+ */
+public class BenchPage extends BasePage {
+
+    @FindBy(id = "name")
+    WebElement nameInput;
+
+    @FindBy(id = "button")
+    WebElement button;
+
+    @FindBy(id = "text")
+    WebElement text;
+
+    @FindBy(id = "hidden")
+    WebElement hidden;
+
+    @FindBy(id = "missing")
+    WebElement missing;
+
+    @FindBy(className = "product-item")
+    List<WebElement> products;
+
+    public BenchPage(WebDriver driver) {
+        super(driver);
+    }
+
+    public void enterName(String value) {
+        enterText(nameInput, value);
+    }
+
+    public void clickButton() {
+        click(button);
+    }
+
+    public String readText() {
+        return getText(text);
+    }
+
+    public boolean isTextDisplayed() {
+        return isDisplayed(text);
+    }
+
+    public boolean probeText() {
+        return isDisplayedNow(text);
+    }
+
+    public boolean probeMissing() {
+        return isDisplayedNow(missing);
+    }
+
+    public boolean probeHidden() {
+        return isDisplayedNow(hidden);
+    }
+
+    public int productCount() {
+        return products.size();
+    }
+}
@@ -0,0 +1,61 @@
+package com.praktikum.testing.otomation.benchmarks;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * Satu Chrome headless per fork yang membuka bench-page.html dari disk lokal,
+ * jadi hasil benchmark tidak dipengaruhi jaringan
+ */
+@State(Scope.Benchmark)
+public class BrowserState {
+
+    WebDriver driver;
+    String pageUrl;
+
+    @Setup(Level.Trial)
+    public void startBrowser() {
+        pageUrl = extractPage().toUri().toString();
+
+        WebDriverManager.chromedriver().setup();
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments("--headless=new", "--no-sandbox", "--disable-dev-shm-usage", "--window-size=1280,800");
+        driver = new ChromeDriver(options);
+        driver.get(pageUrl);
+    }
+
+    @TearDown(Level.Trial)
+    public void quitBrowser() {
+        if (driver != null) {
+            driver.quit();
+        }
+    }
+
+    private static Path extractPage() {
+        try (InputStream in = BrowserState.class.getResourceAsStream("/bench-page.html")) {
+            if (in == null) {
+                throw new IllegalStateException("bench-page.html tidak ada di classpath");
+            }
+            Path page = Files.createTempFile("bench-page", ".html");
+            Files.copy(in, page, StandardCopyOption.REPLACE_EXISTING);
+            page.toFile().deleteOnExit();
+            return page;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
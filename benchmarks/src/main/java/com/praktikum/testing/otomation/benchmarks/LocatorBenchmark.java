@@ -0,0 +1,51 @@
+package com.praktikum.testing.otomation.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Biaya findElement untuk strategi locator yang dipakai di page object (id, css, xpath, className, linkText)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LocatorBenchmark {
+
+    @Param({"id", "css", "xpath", "className", "linkText"})
+    public String strategy;
+
+    private By locator;
+
+    @Setup
+    public void createLocator() {
+        locator = switch (strategy) {
+            case "id" -> By.id("text");
+            case "css" -> By.cssSelector("p.result");
+            case "xpath" -> By.xpath("//p[@class='result']");
+            case "className" -> By.className("result");
+            case "linkText" -> By.linkText("Log in");
+            default -> throw new IllegalArgumentException("Strategi tidak dikenal: " + strategy);
+        };
+    }
+
+    @Benchmark
+    public WebElement findElement(BrowserState browser) {
+        return browser.driver.findElement(locator);
+    }
+}
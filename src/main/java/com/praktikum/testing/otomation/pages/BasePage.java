@@ -1,26 +1,136 @@
 package com.praktikum.testing.otomation.pages;
 
+import com.praktikum.testing.otomation.pages.support.CachingElementLocatorFactory;
+import com.praktikum.testing.otomation.pages.support.CachingFieldDecorator;
+import com.praktikum.testing.otomation.pages.support.PageLocators;
+import com.praktikum.testing.otomation.utils.ActionMetrics;
+import com.praktikum.testing.otomation.utils.NavigationTracker;
+import com.praktikum.testing.otomation.utils.TestConfig;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Base class untuk semua Page Objects
  * Mengandung reusable methods yang dipakai semua page
  */
 public class BasePage {
+    protected static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    // Baca kolom-kolom dari setiap baris sekaligus; input diambil value-nya, elemen lain innerText
+    private static final String READ_ROWS =
+            "var rows = document.querySelectorAll(arguments[0]), columns = arguments[1], result = [];"
+            + "for (var i = 0; i < rows.length; i++) {"
+            + "  var row = {};"
+            + "  for (var name in columns) {"
+            + "    var el = rows[i].querySelector(columns[name]);"
+            + "    row[name] = el == null ? '' : (el.tagName === 'INPUT' || el.tagName === 'SELECT' || el.tagName === 'TEXTAREA')"
+            + "        ? el.value : el.innerText.trim();"
+            + "  }"
+            + "  result.push(row);"
+            + "}"
+            + "return result;";
+
+    // Isi banyak field sekaligus: set value lewat setter native lalu kirim event input/change
+    // seperti saat user mengetik. Select dipilih berdasarkan text/value option, radio/checkbox dengan "true"/"false".
+    // Return selector yang tidak ditemukan
+    private static final String FILL_FIELDS =
+            "var fields = arguments[0], missing = [];"
+            + "for (var selector in fields) {"
+            + "  var el = document.querySelector(selector), value = fields[selector];"
+            + "  if (el == null) { missing.push(selector); continue; }"
+            + "  if (el.tagName === 'SELECT') {"
+            + "    for (var i = 0; i < el.options.length; i++) {"
+            + "      var option = el.options[i];"
+            + "      if (option.text.trim() === value || option.value === value) { el.selectedIndex = i; break; }"
+            + "    }"
+            + "  } else if (el.type === 'checkbox' || el.type === 'radio') {"
+            + "    el.checked = value === 'true';"
+            + "  } else {"
+            + "    var proto = el.tagName === 'TEXTAREA' ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;"
+            + "    Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);"
+            + "    el.dispatchEvent(new Event('input', {bubbles: true}));"
+            + "  }"
+            + "  el.dispatchEvent(new Event('change', {bubbles: true}));"
+            + "}"
+            + "return missing;";
+
+    // Polling lebih rapat untuk race, supaya hasil terdeteksi segera setelah halaman merespon
+    private static final Duration RACE_POLLING = Duration.ofMillis(100);
+
+    // Halaman dianggap "settle" jika tidak ada perubahan DOM selama durasi ini
+    private static final long DOM_QUIET_MS = 100;
+
+    // Pasang hook pada XMLHttpRequest, fetch dan MutationObserver (idempotent per dokumen)
+    private static final String INSTALL_AJAX_TRACKER =
+            "if (window.__ajaxTracker) { return; }"
+            + "var t = window.__ajaxTracker = {pending: 0, lastChange: Date.now()};"
+            + "function done() { t.pending = Math.max(0, t.pending - 1); t.lastChange = Date.now(); }"
+            + "var send = XMLHttpRequest.prototype.send;"
+            + "XMLHttpRequest.prototype.send = function () {"
+            + "  t.pending++; var finished = false;"
+            + "  this.addEventListener('loadend', function () { if (!finished) { finished = true; done(); } });"
+            + "  return send.apply(this, arguments);"
+            + "};"
+            + "if (window.fetch) {"
+            + "  var originalFetch = window.fetch;"
+            + "  window.fetch = function () {"
+            + "    t.pending++;"
+            + "    return originalFetch.apply(this, arguments).finally(done);"
+            + "  };"
+            + "}"
+            + "new MutationObserver(function () { t.lastChange = Date.now(); })"
+            + "  .observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});";
+
+    // Async script: callback dipanggil begitu request selesai dan DOM tenang, atau false saat timeout
+    private static final String AWAIT_AJAX_IDLE =
+            "var quietMs = arguments[0], deadline = Date.now() + arguments[1], callback = arguments[arguments.length - 1];"
+            + "function idle() {"
+            + "  var t = window.__ajaxTracker;"
+            + "  var jq = window.jQuery ? window.jQuery.active : 0;"
+            + "  return document.readyState === 'complete' && jq === 0"
+            + "    && (!t || (t.pending === 0 && Date.now() - t.lastChange >= quietMs));"
+            + "}"
+            + "(function check() {"
+            + "  if (idle()) { callback(true); }"
+            + "  else if (Date.now() > deadline) { callback(false); }"
+            + "  else { setTimeout(check, 20); }"
+            + "})();";
+
     protected WebDriver driver;
     protected WebDriverWait wait;
+    private final CachingElementLocatorFactory locatorFactory;
+    // Dibagi dengan semua page object milik driver yang sama
+    private final NavigationTracker navigation;
+
+    // true: form diisi lewat fillFields (satu script), false: lewat enterText per field (keystroke)
+    protected boolean fastFill = TestConfig.isFastFill();
 
     // Constructor untuk inisialisasi
     public BasePage(WebDriver driver) {
         this.driver = driver;
-        this.wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-        PageFactory.initElements(driver, this); // Wajib untuk @FindBy
+        this.wait = new WebDriverWait(driver, TIMEOUT);
+        // Wajib untuk @FindBy; elemen tunggal di-cache dan dicari ulang otomatis jika stale.
+        // Field diisi oleh binder hasil generate (PageLocatorProcessor), PageFactory hanya sebagai fallback.
+        // Karena itu field @FindBy di subclass package-private, bukan private
+        this.locatorFactory = new CachingElementLocatorFactory(driver);
+        this.navigation = NavigationTracker.of(driver);
+        if (!PageLocators.bind(this, locatorFactory)) {
+            PageFactory.initElements(new CachingFieldDecorator(locatorFactory), this);
+        }
     }
 
     // Method untuk menunggu elemen bisa diklik
@@ -33,38 +143,195 @@ public class BasePage {
         wait.until(ExpectedConditions.visibilityOf(element));
     }
 
+    // Race beberapa kemungkinan hasil (mis. sukses vs error validasi)
+    // Return key dari kondisi yang terpenuhi lebih dulu; TimeoutException jika tidak ada yang terpenuhi
+    protected <T> T waitForFirst(Map<T, ExpectedCondition<?>> outcomes) {
+        WebDriverWait raceWait = new WebDriverWait(driver, TIMEOUT, RACE_POLLING);
+        return raceWait.until(d -> {
+            for (Map.Entry<T, ExpectedCondition<?>> outcome : outcomes.entrySet()) {
+                try {
+                    Object value = outcome.getValue().apply(d);
+                    if (value != null && !Boolean.FALSE.equals(value)) {
+                        return outcome.getKey();
+                    }
+                } catch (WebDriverException e) {
+                    // Elemen belum ada, cek kondisi berikutnya
+                }
+            }
+            return null;
+        });
+    }
+
+    // Aksi di bawah ini dicatat di ActionMetrics per class halaman (waktu wait vs command driver)
+
     // Method untuk mengisi text field
     protected void enterText(WebElement element, String text) {
-        waitForVisible(element);
-        element.clear();
-        element.sendKeys(text);
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "enterText");
+        try {
+            waitForVisible(element);
+            timer.waited();
+            navigation.touch();
+            element.clear();
+            element.sendKeys(text);
+        } finally {
+            timer.stop();
+        }
     }
 
     // Method untuk klik elemen
     protected void click(WebElement element) {
-        waitForClickable(element);
-        element.click();
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "click");
+        try {
+            waitForClickable(element);
+            timer.waited();
+            navigation.touch();
+            element.click();
+        } finally {
+            timer.stop();
+        }
     }
 
     // Method untuk mendapatkan text dari elemen
     protected String getText(WebElement element) {
-        waitForVisible(element);
-        return element.getText();
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "getText");
+        try {
+            waitForVisible(element);
+            timer.waited();
+            return element.getText();
+        } finally {
+            timer.stop();
+        }
     }
 
     // Method untuk cek elemen ditampilkan
     protected boolean isDisplayed(WebElement element) {
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "isDisplayed");
         try {
             waitForVisible(element);
+            timer.waited();
             return element.isDisplayed();
         } catch (Exception e) {
             return false;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    // Probe tanpa menunggu: satu query DOM, langsung false jika elemen memang tidak ada.
+    // Pakai ini kalau "tidak ada" adalah jawaban yang wajar, bukan isDisplayed yang menunggu TIMEOUT
+    protected boolean isDisplayedNow(WebElement element) {
+        try {
+            return element.isDisplayed();
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            return false;
         }
     }
 
+    // Ambil text tanpa menunggu, string kosong jika elemen tidak ada / tidak terlihat
+    protected String getTextNow(WebElement element) {
+        return isDisplayedNow(element) ? element.getText() : "";
+    }
+
+    // Override mode isi form untuk halaman ini, mis. setFastFill(false) untuk test yang memvalidasi pengetikan.
+    // Berlaku sampai test selesai; BaseTest mengembalikannya ke default lewat PageRegistry.resetOverrides
+    public void setFastFill(boolean fastFill) {
+        this.fastFill = fastFill;
+    }
+
+    // Isi beberapa field dalam satu round-trip; key = CSS selector, value = isi field
+    protected void fillFields(Map<String, String> fields) {
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "fillFields");
+        try {
+            timer.waited();
+            navigation.touch();
+            Object missing = ((JavascriptExecutor) driver).executeScript(FILL_FIELDS, fields);
+            if (missing instanceof List<?> list && !list.isEmpty()) {
+                throw new NoSuchElementException("Field tidak ditemukan: " + list);
+            }
+        } finally {
+            timer.stop();
+        }
+    }
+
+    // Snapshot tabel/list dalam satu round-trip, bukan findElement + getText per sel.
+    // rowSelector: CSS untuk setiap baris; columns: nama kolom -> CSS relatif terhadap baris
+    protected List<Map<String, String>> readRows(String rowSelector, Map<String, String> columns) {
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "readRows");
+        try {
+            timer.waited();
+            Object result = ((JavascriptExecutor) driver).executeScript(READ_ROWS, rowSelector, columns);
+            List<Map<String, String>> rows = new ArrayList<>();
+            if (result instanceof List<?> list) {
+                for (Object item : list) {
+                    Map<String, String> row = new LinkedHashMap<>();
+                    ((Map<?, ?>) item).forEach((k, v) -> row.put(String.valueOf(k), v == null ? "" : String.valueOf(v)));
+                    rows.add(row);
+                }
+            }
+            return rows;
+        } finally {
+            timer.stop();
+        }
+    }
+
+    // Mulai tracking request AJAX di halaman; panggil sebelum aksi yang memicu AJAX
+    protected void trackAjax() {
+        ((JavascriptExecutor) driver).executeScript(INSTALL_AJAX_TRACKER);
+    }
+
+    // Tunggu sampai tidak ada XHR/fetch/jQuery yang berjalan dan DOM sudah tenang
+    // Dicek di browser (event-driven), jadi hanya satu round-trip ke driver.
+    // TIMEOUT (15 detik) masih di bawah script timeout default WebDriver (30 detik)
+    protected void waitForAjaxIdle() {
+        try {
+            Object idle = ((JavascriptExecutor) driver).executeAsyncScript(AWAIT_AJAX_IDLE, DOM_QUIET_MS, TIMEOUT.toMillis());
+            if (!Boolean.TRUE.equals(idle)) {
+                System.out.println("AJAX masih berjalan setelah " + TIMEOUT.toSeconds() + " detik");
+            }
+        } catch (WebDriverException e) {
+            // Halaman berpindah saat script berjalan; cukup tunggu dokumen baru selesai load
+            wait.until(d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+        }
+    }
+
+    // Klik elemen yang memicu AJAX lalu tunggu sampai halaman idle
+    protected void clickAndWaitForAjax(WebElement element) {
+        trackAjax();
+        click(element);
+        waitForAjaxIdle();
+    }
+
     // Method untuk navigasi ke URL - TAMBAHKAN INI
+    // Jika url yang sama sudah di-load lewat navigateTo dan belum ada klik/ketik sejak itu,
+    // driver.get dilewati: cukup satu getCurrentUrl untuk memastikan browser memang masih di sana.
+    // Yang dibandingkan adalah URL tempat browser mendarat, supaya redirect tidak membatalkan skip
     protected void navigateTo(String url) {
-        driver.get(url);
+        if (navigation.isFresh(url)) {
+            ActionMetrics.Timer check = ActionMetrics.start(getClass(), "navigateTo(check)");
+            try {
+                check.waited();
+                if (navigation.landedUrl(url).equals(driver.getCurrentUrl())) {
+                    return;
+                }
+            } finally {
+                check.stop();
+            }
+        }
+        ActionMetrics.Timer timer = ActionMetrics.start(getClass(), "navigateTo");
+        try {
+            timer.waited();
+            driver.get(url);
+            navigation.loaded(url, driver.getCurrentUrl());
+            // Elemen halaman lama pasti stale, buang cache supaya tidak perlu round-trip yang gagal dulu
+            locatorFactory.invalidateAll();
+        } finally {
+            timer.stop();
+        }
+    }
+
+    // URL lengkap Demo Web Shop, base URL bisa diganti lewat TestConfig
+    protected String shopUrl(String path) {
+        return TestConfig.getShopBaseUrl() + path;
     }
 
     // Alias methods untuk konsistensi - TAMBAHKAN INI
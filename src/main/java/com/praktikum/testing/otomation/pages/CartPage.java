@@ -5,7 +5,10 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object untuk halaman Shopping Cart
@@ -15,37 +18,31 @@ public class CartPage extends BasePage {
 
     // Locators
     @FindBy(className = "cart-item-row")
-    private List<WebElement> cartItems;
+    List<WebElement> cartItems;
 
     @FindBy(name = "removefromcart")
-    private List<WebElement> removeCheckboxes;
+    List<WebElement> removeCheckboxes;
 
     @FindBy(name = "updatecart")
-    private WebElement updateCartButton;
+    WebElement updateCartButton;
 
     @FindBy(name = "continueshopping")
-    private WebElement continueShoppingButton;
-
-    @FindBy(className = "product-unit-price")
-    private List<WebElement> productPrices;
-
-    @FindBy(className = "product-subtotal")
-    private List<WebElement> productSubtotals;
+    WebElement continueShoppingButton;
 
     @FindBy(className = "cart-total")
-    private WebElement cartTotal;
+    WebElement cartTotal;
 
     @FindBy(name = "itemquantity")
-    private List<WebElement> quantityInputs;
+    List<WebElement> quantityInputs;
 
     @FindBy(className = "order-summary-content")
-    private WebElement emptyCartMessage;
+    WebElement emptyCartMessage;
 
     @FindBy(id = "checkout")
-    private WebElement checkoutButton;
+    WebElement checkoutButton;
 
     @FindBy(id = "termsofservice")
-    private WebElement termsCheckbox;
+    WebElement termsCheckbox;
 
     // Constructor
     public CartPage(WebDriver driver) {
@@ -54,14 +51,29 @@ public class CartPage extends BasePage {
 
     // Buka halaman cart
     public void goToCartPage() {
-        driver.get("http://demowebshop.tricentis.com/cart");
+        navigateTo(shopUrl("/cart"));
         wait.until(ExpectedConditions.urlContains("/cart"));
     }
 
+    // Isi cart (nama, harga, quantity, subtotal) untuk semua baris dalam satu round-trip
+    public List<CartRow> getRows() {
+        Map<String, String> columns = new LinkedHashMap<>();
+        columns.put("name", ".product-name");
+        columns.put("unitPrice", ".product-unit-price");
+        columns.put("quantity", "input[name^='itemquantity']");
+        columns.put("subtotal", ".product-subtotal");
+
+        List<CartRow> rows = new ArrayList<>();
+        for (Map<String, String> row : readRows(".cart-item-row", columns)) {
+            rows.add(new CartRow(row.get("name"), row.get("unitPrice"),
+                    parseQuantity(row.get("quantity")), row.get("subtotal")));
+        }
+        return rows;
+    }
+
     // Dapatkan jumlah item di cart
     public int getItemCount() {
-        wait.until(ExpectedConditions.visibilityOfAllElements(cartItems));
-        return cartItems.size();
+        return getRows().size();
     }
 
     // Hapus item dari cart
@@ -101,12 +113,7 @@ public class CartPage extends BasePage {
 
     // Cek apakah cart kosong
     public boolean isEmpty() {
-        try {
-            return isDisplayed(emptyCartMessage) &&
-                    getText(emptyCartMessage).contains("Your Shopping Cart is empty!");
-        } catch (Exception e) {
-            return false;
-        }
+        return getTextNow(emptyCartMessage).contains("Your Shopping Cart is empty!");
     }
 
     // Checkout
@@ -117,11 +124,18 @@ public class CartPage extends BasePage {
 
     // Dapatkan nama produk di cart
     public String getProductName(int index) {
-        if (index >= 0 && index < cartItems.size()) {
-            return cartItems.get(index)
-                    .findElement(org.openqa.selenium.By.className("product-name"))
-                    .getText();
+        List<CartRow> rows = getRows();
+        if (index >= 0 && index < rows.size()) {
+            return rows.get(index).name();
         }
         return "";
     }
+
+    private static int parseQuantity(String value) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 }
\ No newline at end of file
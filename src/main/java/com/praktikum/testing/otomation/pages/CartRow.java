@@ -0,0 +1,7 @@
+package com.praktikum.testing.otomation.pages;
+
+/**
+ * Satu baris di halaman Shopping Cart, hasil snapshot CartPage.getRows()
+ */
+public record CartRow(String name, String unitPrice, int quantity, String subtotal) {
+}
@@ -6,6 +6,9 @@ import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.Select;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Page Object untuk halaman Checkout
  */
@@ -13,43 +16,43 @@ public class CheckoutPage extends BasePage {
 
     // Locators
     @FindBy(id = "BillingNewAddress_FirstName")
-    private WebElement firstNameInput;
+    WebElement firstNameInput;
 
     @FindBy(id = "BillingNewAddress_LastName")
-    private WebElement lastNameInput;
+    WebElement lastNameInput;
 
     @FindBy(id = "BillingNewAddress_Email")
-    private WebElement emailInput;
+    WebElement emailInput;
 
     @FindBy(id = "BillingNewAddress_CountryId")
-    private WebElement countryDropdown;
+    WebElement countryDropdown;
 
     @FindBy(id = "BillingNewAddress_City")
-    private WebElement cityInput;
+    WebElement cityInput;
 
     @FindBy(id = "BillingNewAddress_Address1")
-    private WebElement addressInput;
+    WebElement addressInput;
 
     @FindBy(id = "BillingNewAddress_ZipPostalCode")
-    private WebElement zipInput;
+    WebElement zipInput;
 
     @FindBy(id = "BillingNewAddress_PhoneNumber")
-    private WebElement phoneInput;
+    WebElement phoneInput;
 
     @FindBy(css = "input[onclick='Billing.save()']")
-    private WebElement continueBillingButton;
+    WebElement continueBillingButton;
 
     @FindBy(css = "input[onclick='ConfirmOrder.save()']")
-    private WebElement confirmOrderButton;
+    WebElement confirmOrderButton;
 
     @FindBy(className = "order-completed")
-    private WebElement orderCompleteMessage;
+    WebElement orderCompleteMessage;
 
     @FindBy(className = "order-number")
-    private WebElement orderNumber;
+    WebElement orderNumber;
 
     @FindBy(className = "field-validation-error")
-    private WebElement validationError;
+    WebElement validationError;
 
     // Constructor
     public CheckoutPage(WebDriver driver) {
@@ -60,6 +63,20 @@ public class CheckoutPage extends BasePage {
     public void fillBillingAddress(String firstName, String lastName, String email,
                                    String country, String city, String address,
                                    String zip, String phone) {
+        if (fastFill) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("#BillingNewAddress_FirstName", firstName);
+            fields.put("#BillingNewAddress_LastName", lastName);
+            fields.put("#BillingNewAddress_Email", email);
+            fields.put("#BillingNewAddress_CountryId", country);
+            fields.put("#BillingNewAddress_City", city);
+            fields.put("#BillingNewAddress_Address1", address);
+            fields.put("#BillingNewAddress_ZipPostalCode", zip);
+            fields.put("#BillingNewAddress_PhoneNumber", phone);
+            fillFields(fields);
+            return;
+        }
+
         enterText(firstNameInput, firstName);
         enterText(lastNameInput, lastName);
         enterText(emailInput, email);
@@ -113,10 +130,6 @@ public class CheckoutPage extends BasePage {
 
     // Dapatkan pesan error
     public String getError() {
-        try {
-            return getText(validationError);
-        } catch (Exception e) {
-            return "";
-        }
+        return getTextNow(validationError);
     }
 }
\ No newline at end of file
@@ -5,7 +5,9 @@ import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object untuk halaman Home
@@ -15,43 +17,43 @@ public class HomePage extends BasePage {
 
     // Locators
     @FindBy(className = "header-logo")
-    private WebElement logo;
+    WebElement logo;
 
     @FindBy(id = "small-searchterms")
-    private WebElement searchBox;
+    WebElement searchBox;
 
     @FindBy(css = "input[value='Search']")
-    private WebElement searchButton;
+    WebElement searchButton;
 
     @FindBy(className = "product-item")
-    private List<WebElement> products;
+    List<WebElement> products;
 
     @FindBy(css = ".product-box-add-to-cart-button")
-    private List<WebElement> addToCartButtons;
+    List<WebElement> addToCartButtons;
 
     @FindBy(id = "topcartlink")
-    private WebElement cartLink;
+    WebElement cartLink;
 
     @FindBy(className = "cart-qty")
-    private WebElement cartQuantity;
+    WebElement cartQuantity;
 
     @FindBy(linkText = "Log in")
-    private WebElement loginLink;
+    WebElement loginLink;
 
     @FindBy(linkText = "Register")
-    private WebElement registerLink;
+    WebElement registerLink;
 
     @FindBy(className = "ico-account")
-    private WebElement accountLink;
+    WebElement accountLink;
 
     @FindBy(className = "ico-logout")
-    private WebElement logoutLink;
+    WebElement logoutLink;
 
     @FindBy(className = "product-title")
-    private List<WebElement> productTitles;
+    List<WebElement> productTitles;
 
     @FindBy(className = "result")
-    private WebElement searchResult;
+    WebElement searchResult;
 
     // Constructor
     public HomePage(WebDriver driver) {
@@ -60,7 +62,7 @@ public class HomePage extends BasePage {
 
     // Buka halaman home
     public void goToHomePage() {
-        driver.get("http://demowebshop.tricentis.com/");
+        navigateTo(shopUrl("/"));
         wait.until(ExpectedConditions.visibilityOf(logo));
     }
 
@@ -70,10 +72,10 @@ public class HomePage extends BasePage {
         click(searchButton);
     }
 
-    // Tambah produk ke cart berdasarkan index
+    // Tambah produk ke cart berdasarkan index, return setelah request AJAX selesai
     public void addToCart(int productIndex) {
         if (productIndex >= 0 && productIndex < addToCartButtons.size()) {
-            click(addToCartButtons.get(productIndex));
+            clickAndWaitForAjax(addToCartButtons.get(productIndex));
         }
     }
 
@@ -84,16 +86,13 @@ public class HomePage extends BasePage {
 
     // Dapatkan jumlah item di cart
     public String getCartItemCount() {
-        try {
-            return getText(cartQuantity);
-        } catch (Exception e) {
-            return "0";
-        }
+        String quantity = getTextNow(cartQuantity);
+        return quantity.isEmpty() ? "0" : quantity;
     }
 
     // Cek apakah user sudah login
     public boolean isUserLoggedIn() {
-        return isDisplayed(accountLink);
+        return isDisplayedNow(accountLink);
     }
 
     // Dapatkan jumlah hasil search
@@ -102,10 +101,20 @@ public class HomePage extends BasePage {
         return products.size();
     }
 
+    // Judul semua produk di grid dalam satu round-trip
+    public List<String> getProductTitles() {
+        List<String> titles = new ArrayList<>();
+        for (Map<String, String> row : readRows(".product-item", Map.of("title", ".product-title"))) {
+            titles.add(row.get("title"));
+        }
+        return titles;
+    }
+
     // Dapatkan judul produk
     public String getProductTitle(int index) {
-        if (index >= 0 && index < productTitles.size()) {
-            return getText(productTitles.get(index));
+        List<String> titles = getProductTitles();
+        if (index >= 0 && index < titles.size()) {
+            return titles.get(index);
         }
         return "";
     }
@@ -119,10 +128,6 @@ public class HomePage extends BasePage {
 
     // Dapatkan pesan hasil search
     public String getSearchMessage() {
-        try {
-            return getText(searchResult);
-        } catch (Exception e) {
-            return "";
-        }
+        return getTextNow(searchResult);
     }
 }
\ No newline at end of file
@@ -1,44 +1,57 @@
 package com.praktikum.testing.otomation.pages;
 
+import com.praktikum.testing.otomation.utils.SessionCache;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Page Object untuk halaman Login
  * URL: http://demowebshop.tricentis.com/login
  */
 public class LoginPage extends BasePage {
 
+    // Kemungkinan hasil setelah tombol login diklik
+    public enum LoginResult {
+        SUCCESS,        // Link "Log out" muncul
+        LOGIN_ERROR,    // Validation summary "Login was unsuccessful"
+        FIELD_ERROR     // Error validasi di bawah field email
+    }
+
     // Locators menggunakan @FindBy (Page Factory)
     @FindBy(id = "Email")
-    private WebElement emailInput;
+    WebElement emailInput;
 
     @FindBy(id = "Password")
-    private WebElement passwordInput;
+    WebElement passwordInput;
 
     @FindBy(css = "input[value='Log in']")
-    private WebElement loginButton;
+    WebElement loginButton;
 
     @FindBy(id = "RememberMe")
-    private WebElement rememberMeCheckbox;
+    WebElement rememberMeCheckbox;
 
     @FindBy(className = "validation-summary-errors")
-    private WebElement loginError;
+    WebElement loginError;
 
     // PERBAIKAN: Menggunakan selector atribut validasi yang lebih akurat
     @FindBy(css = "span[data-valmsg-for='Email']")
-    private WebElement emailError;
+    WebElement emailError;
 
     @FindBy(linkText = "Log out")
-    private WebElement logoutLink;
+    WebElement logoutLink;
 
     @FindBy(linkText = "Log in")
-    private WebElement loginLink;
+    WebElement loginLink;
 
     @FindBy(css = ".header-links .account")
-    private WebElement accountEmail;
+    WebElement accountEmail;
 
     // Constructor
     public LoginPage(WebDriver driver) {
@@ -47,7 +60,7 @@ public class LoginPage extends BasePage {
 
     // Buka halaman login
     public void goToLoginPage() {
-        driver.get("http://demowebshop.tricentis.com/login");
+        navigateTo(shopUrl("/login"));
         wait.until(ExpectedConditions.urlContains("/login"));
     }
 
@@ -58,6 +71,26 @@ public class LoginPage extends BasePage {
         click(loginButton);
     }
 
+    // Login memakai sesi dari SessionCache; form login hanya diisi jika belum ada sesi yang valid.
+    // Untuk test yang bukan tentang login itu sendiri. Berakhir di homepage dalam kondisi login
+    public void loginWithCachedSession(String email, String password) {
+        String baseUrl = TestConfig.getShopBaseUrl();
+        if (SessionCache.restore(driver, baseUrl, email)) {
+            navigateTo(shopUrl("/"));
+            if (isDisplayedNow(logoutLink)) {
+                return;
+            }
+            // Sesi ditolak server, login ulang lewat form
+            SessionCache.invalidate(baseUrl, email);
+        }
+
+        goToLoginPage();
+        login(email, password);
+        if (isLoginSuccess()) {
+            SessionCache.save(driver, baseUrl, email);
+        }
+    }
+
     // Login dengan remember me
     public void loginWithRememberMe(String email, String password) {
         enterText(emailInput, email);
@@ -66,11 +99,19 @@ public class LoginPage extends BasePage {
         click(loginButton);
     }
 
+    // Tunggu hasil login: mana yang muncul lebih dulu antara sukses, error summary, atau error field
+    public LoginResult waitForLoginResult() {
+        Map<LoginResult, ExpectedCondition<?>> outcomes = new LinkedHashMap<>();
+        outcomes.put(LoginResult.SUCCESS, ExpectedConditions.visibilityOf(logoutLink));
+        outcomes.put(LoginResult.LOGIN_ERROR, ExpectedConditions.visibilityOf(loginError));
+        outcomes.put(LoginResult.FIELD_ERROR, ExpectedConditions.visibilityOf(emailError));
+        return waitForFirst(outcomes);
+    }
+
     // Cek apakah login berhasil
     public boolean isLoginSuccess() {
         try {
-            wait.until(ExpectedConditions.visibilityOf(logoutLink));
-            return logoutLink.isDisplayed();
+            return waitForLoginResult() == LoginResult.SUCCESS;
         } catch (Exception e) {
             return false;
         }
@@ -79,8 +120,10 @@ public class LoginPage extends BasePage {
     // Dapatkan pesan error login (Summary Error di atas)
     public String getLoginError() {
         try {
-            waitForVisible(loginError);
-            return getText(loginError);
+            if (waitForLoginResult() == LoginResult.LOGIN_ERROR) {
+                return getText(loginError);
+            }
+            return "";
         } catch (Exception e) {
             return "";
         }
@@ -89,15 +132,15 @@ public class LoginPage extends BasePage {
     // Dapatkan pesan error email (PERBAIKAN LOGIKA)
     public String getEmailError() {
         try {
-            // 1. Coba ambil error spesifik di bawah field email
-            if (isDisplayed(emailError)) {
-                String error = getText(emailError);
-                if (!error.isEmpty()) return error;
+            LoginResult result = waitForLoginResult();
+
+            // 1. Error spesifik di bawah field email
+            if (result == LoginResult.FIELD_ERROR) {
+                return getText(emailError);
             }
 
-            // 2. Jika tidak ada, coba ambil dari error summary umum
-            // Kadang jika format salah total, error muncul di summary
-            if (isDisplayed(loginError)) {
+            // 2. Kadang jika format salah total, error muncul di summary
+            if (result == LoginResult.LOGIN_ERROR) {
                 return getText(loginError);
             }
 
@@ -119,7 +162,7 @@ public class LoginPage extends BasePage {
 
     // Cek apakah sudah logout
     public boolean isLogoutSuccess() {
-        return isDisplayed(loginLink);
+        return isDisplayedNow(loginLink);
     }
 
     // Get account email yang login
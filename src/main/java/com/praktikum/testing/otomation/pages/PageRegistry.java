@@ -0,0 +1,79 @@
+package com.praktikum.testing.otomation.pages;
+
+import com.praktikum.testing.otomation.utils.TestConfig;
+import org.openqa.selenium.WebDriver;
+
+import java.util.stream.Stream;
+
+/**
+ * Page object untuk satu driver, dibuat saat pertama kali dipakai lalu dipakai ulang
+ * (beserta WebDriverWait dan cache elemennya). Tidak thread-safe: satu registry per thread test
+ */
+public class PageRegistry {
+
+    private final WebDriver driver;
+
+    private HomePage home;
+    private LoginPage login;
+    private CartPage cart;
+    private ProductPage product;
+    private RegistrationPage registration;
+    private CheckoutPage checkout;
+
+    public PageRegistry(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    // Kembalikan override per test (mis. setFastFill(false)) ke default, dipanggil di awal setiap test
+    public void resetOverrides() {
+        Stream.of(home, login, cart, product, registration, checkout)
+                .filter(page -> page != null)
+                .forEach(page -> page.setFastFill(TestConfig.isFastFill()));
+    }
+
+    public HomePage home() {
+        if (home == null) {
+            home = new HomePage(driver);
+        }
+        return home;
+    }
+
+    public LoginPage login() {
+        if (login == null) {
+            login = new LoginPage(driver);
+        }
+        return login;
+    }
+
+    public CartPage cart() {
+        if (cart == null) {
+            cart = new CartPage(driver);
+        }
+        return cart;
+    }
+
+    public ProductPage product() {
+        if (product == null) {
+            product = new ProductPage(driver);
+        }
+        return product;
+    }
+
+    public RegistrationPage registration() {
+        if (registration == null) {
+            registration = new RegistrationPage(driver);
+        }
+        return registration;
+    }
+
+    public CheckoutPage checkout() {
+        if (checkout == null) {
+            checkout = new CheckoutPage(driver);
+        }
+        return checkout;
+    }
+}
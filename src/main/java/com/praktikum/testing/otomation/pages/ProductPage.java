@@ -12,34 +12,34 @@ public class ProductPage extends BasePage {
 
     // Locators
     @FindBy(className = "product-name")
-    private WebElement productName;
+    WebElement productName;
 
     @FindBy(className = "product-price")
-    private WebElement productPrice;
+    WebElement productPrice;
 
     @FindBy(className = "short-description")
-    private WebElement productDescription;
+    WebElement productDescription;
 
     @FindBy(className = "picture")
-    private WebElement productImage;
+    WebElement productImage;
 
     // PERBAIKAN: Menggunakan CSS Selector yang lebih umum (starts-with)
     // Ini akan cocok dengan 'add-to-cart-button-72', 'add-to-cart-button-31', dll.
     @FindBy(css = "input[id^='add-to-cart-button-']")
-    private WebElement addToCartButton;
+    WebElement addToCartButton;
 
     // PERBAIKAN: Sama seperti tombol add to cart, input quantity ID-nya dinamis
     @FindBy(css = "input[id^='product_enteredQuantity_']")
-    private WebElement quantityInput;
+    WebElement quantityInput;
 
     @FindBy(css = "#bar-notification .content")
-    private WebElement notificationMessage;
+    WebElement notificationMessage;
 
     @FindBy(css = "#bar-notification .close")
-    private WebElement closeNotification;
+    WebElement closeNotification;
 
     @FindBy(linkText = "shopping cart")
-    private WebElement cartLink;
+    WebElement cartLink;
 
     // Constructor
     public ProductPage(WebDriver driver) {
@@ -73,7 +73,7 @@ public class ProductPage extends BasePage {
     public void addToCart() {
         // Scroll ke tombol add to cart jika perlu (opsional, kadang tertutup)
         // ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", addToCartButton);
-        click(addToCartButton);
+        clickAndWaitForAjax(addToCartButton);
     }
 
     // Set quantity
@@ -111,10 +111,10 @@ public class ProductPage extends BasePage {
 
             // Tutup notifikasi agar tidak menghalangi elemen lain
             try {
-                if (isDisplayed(closeNotification)) {
+                if (isDisplayedNow(closeNotification)) {
                     click(closeNotification);
-                    // Tunggu sebentar sampai animasi tutup selesai
-                    Thread.sleep(500);
+                    // Tunggu sampai animasi tutup selesai
+                    wait.until(ExpectedConditions.invisibilityOf(notificationMessage));
                 }
             } catch (Exception ex) {
                 // Ignore jika gagal tutup
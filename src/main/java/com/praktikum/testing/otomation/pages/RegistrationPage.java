@@ -3,8 +3,12 @@ package com.praktikum.testing.otomation.pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.ui.ExpectedCondition;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * CORRECT VERSION - Updated to extend BasePage
  * Page Object untuk Registration Page
@@ -12,55 +16,64 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
  */
 public class RegistrationPage extends BasePage {
 
+    // Kemungkinan hasil setelah tombol register diklik
+    public enum RegistrationResult {
+        SUCCESS,            // Pesan "Your registration completed"
+        VALIDATION_ERROR    // Error validasi field atau summary (mis. email sudah terdaftar)
+    }
+
     // Correct Locators menggunakan @FindBy annotation
     @FindBy(linkText = "Register")
-    private WebElement registerLink;
+    WebElement registerLink;
 
     @FindBy(id = "gender-male")
-    private WebElement genderMaleRadio;
+    WebElement genderMaleRadio;
 
     @FindBy(id = "gender-female")
-    private WebElement genderFemaleRadio;
+    WebElement genderFemaleRadio;
 
     @FindBy(id = "FirstName")
-    private WebElement firstNameField;
+    WebElement firstNameField;
 
     @FindBy(id = "LastName")
-    private WebElement lastNameField;
+    WebElement lastNameField;
 
     @FindBy(id = "Email")
-    private WebElement emailField;
+    WebElement emailField;
 
     @FindBy(id = "Password")
-    private WebElement passwordField;
+    WebElement passwordField;
 
     @FindBy(id = "ConfirmPassword")
-    private WebElement confirmPasswordField;
+    WebElement confirmPasswordField;
 
     @FindBy(id = "register-button")
-    private WebElement registerButton;
+    WebElement registerButton;
 
     @FindBy(className = "result")
-    private WebElement successMessage;
+    WebElement successMessage;
 
     @FindBy(css = "div.page-title h1")
-    private WebElement pageTitle;
+    WebElement pageTitle;
 
     // Validation messages
     @FindBy(css = "span[for='FirstName']") // Perbaikan selector agar lebih spesifik
-    private WebElement firstNameError;
+    WebElement firstNameError;
 
     @FindBy(css = "span[for='LastName']") // Tambahan @FindBy untuk konsistensi
-    private WebElement lastNameError;
+    WebElement lastNameError;
 
     @FindBy(css = "span[for='Email']")
-    private WebElement emailError;
+    WebElement emailError;
 
     @FindBy(css = "span[for='Password']")
-    private WebElement passwordError;
+    WebElement passwordError;
 
     @FindBy(css = "span[for='ConfirmPassword']")
-    private WebElement confirmPasswordError;
+    WebElement confirmPasswordError;
+
+    @FindBy(className = "validation-summary-errors")
+    WebElement summaryError;
 
     // Constructor
     public RegistrationPage(WebDriver driver) {
@@ -69,7 +82,7 @@ public class RegistrationPage extends BasePage {
 
     // Method untuk membuka halaman registrasi
     public void navigateToRegisterPage() {
-        navigateTo("http://demowebshop.tricentis.com/");
+        navigateTo(shopUrl("/"));
         clickElement(registerLink);
         wait.until(ExpectedConditions.urlContains("/register"));
     }
@@ -130,80 +143,97 @@ public class RegistrationPage extends BasePage {
     }
 
     // Validation error methods
+    // Tunggu dulu sampai hasil submit terlihat (error atau sukses), lalu baca field tanpa menunggu lagi.
+    // Jadi aman dipanggil langsung setelah clickRegisterButton, dan tidak menunggu 15 detik jika sukses
     public String getFirstNameError() {
-        try {
-            return getElementText(firstNameError);
-        } catch (Exception e) {
-            return "";
-        }
+        return getErrorText(firstNameError);
     }
 
     public String getLastNameError() {
-        try {
-            return getElementText(lastNameError);
-        } catch (Exception e) {
-            return "";
-        }
+        return getErrorText(lastNameError);
     }
 
     public String getEmailError() {
-        try {
-            return getElementText(emailError);
-        } catch (Exception e) {
-            return "";
-        }
+        return getErrorText(emailError);
     }
 
     public String getPasswordError() {
-        try {
-            return getElementText(passwordError);
-        } catch (Exception e) {
-            return "";
-        }
+        return getErrorText(passwordError);
     }
 
     public String getConfirmPasswordError() {
+        return getErrorText(confirmPasswordError);
+    }
+
+    private String getErrorText(WebElement error) {
         try {
-            return getElementText(confirmPasswordError);
+            waitForRegistrationResult();
         } catch (Exception e) {
-            return "";
+            // Tidak ada hasil sama sekali; probe di bawah akan mengembalikan string kosong
         }
+        return getTextNow(error);
     }
 
     // Method untuk registrasi lengkap
     public void registerUser(String gender, String firstName, String lastName,
                              String email, String password) {
         selectGender(gender);
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterEmail(email);
-        enterPassword(password);
-        enterConfirmPassword(password);
+        if (fastFill) {
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put("#FirstName", firstName);
+            fields.put("#LastName", lastName);
+            fields.put("#Email", email);
+            fields.put("#Password", password);
+            fields.put("#ConfirmPassword", password);
+            fillFields(fields);
+        } else {
+            enterFirstName(firstName);
+            enterLastName(lastName);
+            enterEmail(email);
+            enterPassword(password);
+            enterConfirmPassword(password);
+        }
         clickRegisterButton();
 
         // Wait for either success or error
         try {
-            wait.until(ExpectedConditions.or(
-                    ExpectedConditions.visibilityOf(successMessage),
-                    ExpectedConditions.visibilityOf(emailError),
-                    ExpectedConditions.visibilityOf(firstNameError)
-            ));
+            waitForRegistrationResult();
         } catch (Exception e) {
             // Ignore timeout, assertions will handle it
         }
     }
 
+    // Tunggu hasil registrasi: sukses atau error validasi, mana yang muncul lebih dulu
+    public RegistrationResult waitForRegistrationResult() {
+        Map<RegistrationResult, ExpectedCondition<?>> outcomes = new LinkedHashMap<>();
+        outcomes.put(RegistrationResult.SUCCESS, ExpectedConditions.visibilityOf(successMessage));
+        outcomes.put(RegistrationResult.VALIDATION_ERROR, ExpectedConditions.or(
+                ExpectedConditions.visibilityOf(firstNameError),
+                ExpectedConditions.visibilityOf(lastNameError),
+                ExpectedConditions.visibilityOf(emailError),
+                ExpectedConditions.visibilityOf(passwordError),
+                ExpectedConditions.visibilityOf(confirmPasswordError),
+                ExpectedConditions.visibilityOf(summaryError)
+        ));
+        return waitForFirst(outcomes);
+    }
+
     // Method untuk verifikasi registrasi berhasil
     public boolean isRegistrationSuccessful() {
-        return isElementDisplayed(successMessage) &&
-                getSuccessMessage().contains("Your registration completed");
+        try {
+            return waitForRegistrationResult() == RegistrationResult.SUCCESS &&
+                    getSuccessMessage().contains("Your registration completed");
+        } catch (Exception e) {
+            return false;
+        }
     }
 
     // Method untuk verifikasi ada error validation
     public boolean hasValidationErrors() {
-        return !getFirstNameError().isEmpty() ||
-                !getEmailError().isEmpty() ||
-                !getPasswordError().isEmpty() ||
-                !getConfirmPasswordError().isEmpty();
+        try {
+            return waitForRegistrationResult() == RegistrationResult.VALIDATION_ERROR;
+        } catch (Exception e) {
+            return false;
+        }
     }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.praktikum.testing.otomation.pages.demo;
 
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -31,7 +32,7 @@ public class LoginPage {
 
     // Page Actions
     public void navigateToLoginPage() {
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
         wait.until(ExpectedConditions.presenceOfElementLocated(usernameField));
     }
 
@@ -0,0 +1,65 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.List;
+
+/**
+ * ElementLocator yang menyimpan elemen tunggal yang sudah ditemukan, jadi akses berikutnya
+ * tidak perlu findElement lagi. Cache dibuang lewat invalidate() (mis. setelah navigasi atau
+ * saat elemen stale). List tidak pernah di-cache karena isinya bisa berubah.
+ */
+public class CachingElementLocator implements ElementLocator {
+
+    private final SearchContext searchContext;
+    private final By by;
+    private final boolean cache;
+
+    private WebElement cachedElement;
+
+    public CachingElementLocator(SearchContext searchContext, AbstractAnnotations annotations) {
+        this(searchContext, annotations.buildBy(), true);
+    }
+
+    public CachingElementLocator(SearchContext searchContext, By by, boolean cache) {
+        this.searchContext = searchContext;
+        this.by = by;
+        this.cache = cache;
+    }
+
+    @Override
+    public WebElement findElement() {
+        WebElement element = cachedElement;
+        if (element != null) {
+            return element;
+        }
+        element = searchContext.findElement(by);
+        if (cache) {
+            cachedElement = element;
+        }
+        return element;
+    }
+
+    @Override
+    public List<WebElement> findElements() {
+        return searchContext.findElements(by);
+    }
+
+    // Buang elemen yang di-cache; findElement berikutnya akan mencari ulang di DOM
+    public void invalidate() {
+        cachedElement = null;
+    }
+
+    public boolean isCaching() {
+        return cache;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " '" + by + "'";
+    }
+}
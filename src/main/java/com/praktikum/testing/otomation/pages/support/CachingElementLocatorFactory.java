@@ -0,0 +1,43 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Membuat CachingElementLocator untuk setiap field @FindBy di satu page object,
+ * dan bisa membuang cache semua locator tersebut sekaligus
+ */
+public class CachingElementLocatorFactory implements ElementLocatorFactory {
+
+    private final SearchContext searchContext;
+    private final List<CachingElementLocator> locators = new ArrayList<>();
+
+    public CachingElementLocatorFactory(SearchContext searchContext) {
+        this.searchContext = searchContext;
+    }
+
+    @Override
+    public CachingElementLocator createLocator(Field field) {
+        return createLocator(new Annotations(field).buildBy());
+    }
+
+    // Dipakai kode locator hasil generate, By sudah dibuat saat compile
+    public CachingElementLocator createLocator(By by) {
+        CachingElementLocator locator = new CachingElementLocator(searchContext, by, true);
+        locators.add(locator);
+        return locator;
+    }
+
+    // Dipanggil saat halaman berganti; semua elemen akan dicari ulang saat dipakai
+    public void invalidateAll() {
+        for (CachingElementLocator locator : locators) {
+            locator.invalidate();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.DefaultFieldDecorator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * FieldDecorator PageFactory yang memakai StaleRetryingElementHandler untuk elemen tunggal,
+ * sehingga elemen yang di-cache otomatis dicari ulang ketika sudah stale
+ */
+public class CachingFieldDecorator extends DefaultFieldDecorator {
+
+    public CachingFieldDecorator(CachingElementLocatorFactory factory) {
+        super(factory);
+    }
+
+    @Override
+    protected WebElement proxyForLocator(ClassLoader loader, ElementLocator locator) {
+        InvocationHandler handler = new StaleRetryingElementHandler(locator);
+        return (WebElement) Proxy.newProxyInstance(
+                loader, new Class[] {WebElement.class, WrapsElement.class, Locatable.class}, handler);
+    }
+}
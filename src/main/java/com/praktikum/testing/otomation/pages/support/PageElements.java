@@ -0,0 +1,37 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Pembuat proxy elemen untuk kode locator hasil generate (lihat PageLocatorProcessor).
+ * Hasilnya sama dengan CachingFieldDecorator, tapi tanpa membaca anotasi @FindBy saat runtime
+ */
+public final class PageElements {
+
+    private static final ClassLoader LOADER = PageElements.class.getClassLoader();
+
+    private PageElements() {
+    }
+
+    // Elemen tunggal: di-cache dan dicari ulang otomatis jika stale
+    public static WebElement element(CachingElementLocatorFactory factory, By by) {
+        return (WebElement) Proxy.newProxyInstance(LOADER,
+                new Class[] {WebElement.class, WrapsElement.class, Locatable.class},
+                new StaleRetryingElementHandler(factory.createLocator(by)));
+    }
+
+    // List elemen: selalu dicari ulang setiap diakses
+    @SuppressWarnings("unchecked")
+    public static List<WebElement> list(CachingElementLocatorFactory factory, By by) {
+        return (List<WebElement>) Proxy.newProxyInstance(LOADER,
+                new Class[] {List.class},
+                new LocatingElementListHandler(factory.createLocator(by)));
+    }
+}
@@ -0,0 +1,48 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import com.praktikum.testing.otomation.pages.BasePage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+
+/**
+ * Registry binder locator hasil generate PageLocatorProcessor saat compile.
+ * Binder mengisi field @FindBy langsung (tanpa reflection); halaman tanpa binder
+ * tetap memakai PageFactory.initElements sebagai fallback
+ */
+public final class PageLocators {
+
+    // Mengisi field @FindBy satu page object
+    public interface Binder {
+        void bind(BasePage page, CachingElementLocatorFactory factory);
+    }
+
+    // Daftar binder yang di-generate, didaftarkan lewat META-INF/services
+    public interface Index {
+        void registerAll(Map<Class<?>, Binder> binders);
+    }
+
+    private static final Map<Class<?>, Binder> binders = loadBinders();
+
+    private PageLocators() {
+    }
+
+    // false jika class ini tidak punya binder hasil generate
+    public static boolean bind(BasePage page, CachingElementLocatorFactory factory) {
+        Binder binder = binders.get(page.getClass());
+        if (binder == null) {
+            return false;
+        }
+        binder.bind(page, factory);
+        return true;
+    }
+
+    private static Map<Class<?>, Binder> loadBinders() {
+        Map<Class<?>, Binder> result = new HashMap<>();
+        for (Index index : ServiceLoader.load(Index.class, PageLocators.class.getClassLoader())) {
+            index.registerAll(result);
+        }
+        return Map.copyOf(result);
+    }
+}
@@ -0,0 +1,50 @@
+package com.praktikum.testing.otomation.pages.support;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Handler untuk proxy elemen PageFactory. Jika elemen dari cache ternyata sudah stale
+ * (halaman berpindah atau DOM diganti), cache dibuang dan perintah diulang sekali dengan elemen baru.
+ */
+public class StaleRetryingElementHandler implements InvocationHandler {
+
+    private final ElementLocator locator;
+
+    public StaleRetryingElementHandler(ElementLocator locator) {
+        this.locator = locator;
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+        if ("toString".equals(method.getName())) {
+            return "Proxy element for: " + locator;
+        }
+
+        WebElement element = locator.findElement();
+        if ("getWrappedElement".equals(method.getName())) {
+            return element;
+        }
+
+        try {
+            return method.invoke(element, args);
+        } catch (InvocationTargetException e) {
+            if (!(e.getCause() instanceof StaleElementReferenceException)
+                    || !(locator instanceof CachingElementLocator caching)) {
+                throw e.getCause();
+            }
+            // Elemen lama sudah tidak ada di DOM, cari ulang dan coba sekali lagi
+            caching.invalidate();
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException retry) {
+                throw retry.getCause();
+            }
+        }
+    }
+}
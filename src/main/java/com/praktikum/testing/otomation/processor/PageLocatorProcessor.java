@@ -0,0 +1,318 @@
+package com.praktikum.testing.otomation.processor;
+
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.How;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Annotation processor yang membuat class {@code <Page>_Locators} untuk setiap subclass BasePage
+ * dengan field @FindBy. Class tersebut mengisi field langsung dengan By yang sudah dibuat saat compile,
+ * jadi membuat page object tidak perlu reflection seperti PageFactory.initElements.
+ *
+ * Syarat: field @FindBy bertipe WebElement atau List&lt;WebElement&gt; dan tidak private/final.
+ * Field @FindBy warisan dari superclass diisi dengan memanggil binder superclass lebih dulu,
+ * jadi superclass tersebut juga harus memenuhi syarat dan dikompilasi bersama.
+ * Class yang tidak memenuhi dilewati (warning) dan tetap memakai PageFactory saat runtime.
+ * Dikompilasi lebih dulu oleh execution terpisah di pom.xml, lalu dipakai oleh default-compile.
+ */
+@SupportedAnnotationTypes("org.openqa.selenium.support.FindBy")
+public class PageLocatorProcessor extends AbstractProcessor {
+
+    private static final String BASE_PAGE = "com.praktikum.testing.otomation.pages.BasePage";
+    private static final String SUPPORT_PACKAGE = "com.praktikum.testing.otomation.pages.support";
+    private static final String INDEX_SERVICE = "META-INF/services/" + SUPPORT_PACKAGE + ".PageLocators$Index";
+    private static final String WEB_ELEMENT = "org.openqa.selenium.WebElement";
+    private static final String WEB_ELEMENT_LIST = "java.util.List<org.openqa.selenium.WebElement>";
+
+    private boolean generated;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(java.util.Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (generated || roundEnv.processingOver()) {
+            return false;
+        }
+        TypeElement basePage = processingEnv.getElementUtils().getTypeElement(BASE_PAGE);
+        if (basePage == null) {
+            return false;
+        }
+
+        // Kelompokkan field @FindBy per class halaman, urut nama supaya output stabil
+        Map<String, TypeElement> pages = new TreeMap<>();
+        Map<String, List<VariableElement>> fieldsByPage = new TreeMap<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(FindBy.class)) {
+            if (element.getKind() != ElementKind.FIELD) {
+                continue;
+            }
+            TypeElement page = (TypeElement) element.getEnclosingElement();
+            if (!isSubtype(page, basePage)) {
+                continue;
+            }
+            String name = page.getQualifiedName().toString();
+            pages.put(name, page);
+            fieldsByPage.computeIfAbsent(name, k -> new ArrayList<>()).add((VariableElement) element);
+        }
+
+        Map<String, Boolean> bindable = new HashMap<>();
+        List<TypeElement> bound = new ArrayList<>();
+        for (TypeElement page : pages.values()) {
+            if (isBindable(page, basePage, pages, fieldsByPage, bindable)) {
+                writeBinder(page, fieldsByPage.get(page.getQualifiedName().toString()), parentWithLocators(page, basePage));
+                bound.add(page);
+            }
+        }
+        if (!bound.isEmpty()) {
+            writeIndex(bound);
+        }
+        generated = true;
+        return false;
+    }
+
+    private boolean isSubtype(TypeElement type, TypeElement parent) {
+        TypeMirror erasedType = processingEnv.getTypeUtils().erasure(type.asType());
+        TypeMirror erasedParent = processingEnv.getTypeUtils().erasure(parent.asType());
+        return processingEnv.getTypeUtils().isSubtype(erasedType, erasedParent);
+    }
+
+    // Bisa dibuat binder jika field sendiri memenuhi syarat dan superclass dengan @FindBy juga punya binder
+    private boolean isBindable(TypeElement page, TypeElement basePage, Map<String, TypeElement> pages,
+                               Map<String, List<VariableElement>> fieldsByPage, Map<String, Boolean> bindable) {
+        String name = page.getQualifiedName().toString();
+        Boolean known = bindable.get(name);
+        if (known != null) {
+            return known;
+        }
+        boolean result = canBind(page, fieldsByPage.get(name));
+        TypeElement parent = parentWithLocators(page, basePage);
+        if (result && parent != null) {
+            String parentName = parent.getQualifiedName().toString();
+            if (!pages.containsKey(parentName)) {
+                // Superclass dari compile lain: binder-nya tidak bisa dipastikan ada
+                result = skip(page, "superclass " + parent.getSimpleName() + " tidak dikompilasi bersama");
+            } else if (!isBindable(parent, basePage, pages, fieldsByPage, bindable)) {
+                result = skip(page, "superclass " + parent.getSimpleName() + " tidak punya binder");
+            }
+        }
+        bindable.put(name, result);
+        return result;
+    }
+
+    // Superclass terdekat (di bawah BasePage) yang mendeklarasikan field @FindBy, atau null
+    private TypeElement parentWithLocators(TypeElement page, TypeElement basePage) {
+        TypeElement current = superclassOf(page);
+        while (current != null && !processingEnv.getTypeUtils().isSameType(
+                processingEnv.getTypeUtils().erasure(current.asType()),
+                processingEnv.getTypeUtils().erasure(basePage.asType()))) {
+            for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+                if (field.getAnnotation(FindBy.class) != null) {
+                    return current;
+                }
+            }
+            current = superclassOf(current);
+        }
+        return null;
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) processingEnv.getTypeUtils().asElement(superclass);
+    }
+
+    // Binder hanya bisa dibuat jika semua field bisa diisi dari package yang sama
+    private boolean canBind(TypeElement page, List<VariableElement> fields) {
+        if (page.getNestingKind().isNested() || page.getModifiers().contains(Modifier.PRIVATE)) {
+            return skip(page, "nested/private class");
+        }
+        for (VariableElement field : fields) {
+            String type = field.asType().toString();
+            if (field.getModifiers().contains(Modifier.PRIVATE) || field.getModifiers().contains(Modifier.FINAL)
+                    || field.getModifiers().contains(Modifier.STATIC)) {
+                return skip(page, "field '" + field.getSimpleName() + "' private/final/static");
+            }
+            if (!type.equals(WEB_ELEMENT) && !type.equals(WEB_ELEMENT_LIST)) {
+                return skip(page, "field '" + field.getSimpleName() + "' bertipe " + type);
+            }
+            if (byExpression(field.getAnnotation(FindBy.class)) == null) {
+                return skip(page, "@FindBy pada '" + field.getSimpleName() + "' tidak didukung");
+            }
+        }
+        return true;
+    }
+
+    private boolean skip(TypeElement page, String reason) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                "Locator " + page.getSimpleName() + " tidak di-generate (" + reason + "), memakai PageFactory saat runtime", page);
+        return false;
+    }
+
+    private void writeBinder(TypeElement page, List<VariableElement> fields, TypeElement parent) {
+        String packageName = packageOf(page);
+        String pageName = page.getSimpleName().toString();
+        String binderName = pageName + "_Locators";
+
+        StringBuilder body = new StringBuilder();
+        if (parent != null) {
+            // Field warisan diisi oleh binder superclass (yang juga memanggil superclass-nya)
+            body.append("        ").append(packageOf(parent)).append('.').append(parent.getSimpleName())
+                    .append("_Locators.bind(page, factory);\n");
+        }
+        for (VariableElement field : fields) {
+            String helper = field.asType().toString().equals(WEB_ELEMENT) ? "element" : "list";
+            body.append("        page.").append(field.getSimpleName()).append(" = PageElements.").append(helper)
+                    .append("(factory, ").append(byExpression(field.getAnnotation(FindBy.class))).append(");\n");
+        }
+
+        String source = "package " + packageName + ";\n\n"
+                + "import " + SUPPORT_PACKAGE + ".CachingElementLocatorFactory;\n"
+                + "import " + SUPPORT_PACKAGE + ".PageElements;\n"
+                + "import org.openqa.selenium.By;\n\n"
+                + "// Di-generate oleh PageLocatorProcessor dari field @FindBy di " + pageName + ", jangan diedit\n"
+                + "public final class " + binderName + " {\n\n"
+                + "    private " + binderName + "() {\n"
+                + "    }\n\n"
+                + "    public static void bind(" + pageName + " page, CachingElementLocatorFactory factory) {\n"
+                + body
+                + "    }\n"
+                + "}\n";
+        writeSource(packageName + "." + binderName, source, page);
+    }
+
+    // Satu index per compile yang mendaftarkan semua binder ke PageLocators lewat ServiceLoader
+    private void writeIndex(List<TypeElement> pages) {
+        String packageName = packageOf(pages.get(0));
+        String indexName = "PageLocatorIndex";
+
+        StringBuilder body = new StringBuilder();
+        for (TypeElement page : pages) {
+            String pageName = page.getQualifiedName().toString();
+            String binderName = packageOf(page) + "." + page.getSimpleName() + "_Locators";
+            body.append("        binders.put(").append(pageName).append(".class, (page, factory) -> ")
+                    .append(binderName).append(".bind((").append(pageName).append(") page, factory));\n");
+        }
+
+        String source = "package " + packageName + ";\n\n"
+                + "import " + SUPPORT_PACKAGE + ".PageLocators;\n\n"
+                + "import java.util.Map;\n\n"
+                + "// Di-generate oleh PageLocatorProcessor, jangan diedit\n"
+                + "public final class " + indexName + " implements PageLocators.Index {\n\n"
+                + "    @Override\n"
+                + "    public void registerAll(Map<Class<?>, PageLocators.Binder> binders) {\n"
+                + body
+                + "    }\n"
+                + "}\n";
+        writeSource(packageName + "." + indexName, source, pages.toArray(new Element[0]));
+
+        try {
+            FileObject service = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_SERVICE,
+                    pages.toArray(new Element[0]));
+            try (Writer writer = service.openWriter()) {
+                writer.write(packageName + "." + indexName + "\n");
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Gagal menulis " + INDEX_SERVICE + ": " + e.getMessage());
+        }
+    }
+
+    private void writeSource(String className, String source, Element... originatingElements) {
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(className, originatingElements);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source);
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Gagal menulis " + className + ": " + e.getMessage());
+        }
+    }
+
+    private String packageOf(TypeElement type) {
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        return pkg.getQualifiedName().toString();
+    }
+
+    // Ekspresi Java untuk By sesuai atribut @FindBy; null jika kombinasi tidak didukung
+    static String byExpression(FindBy findBy) {
+        if (findBy.how() != How.UNSET) {
+            return byExpression(findBy.how(), findBy.using());
+        }
+        Map<How, String> values = new TreeMap<>();
+        putIfSet(values, How.ID, findBy.id());
+        putIfSet(values, How.NAME, findBy.name());
+        putIfSet(values, How.CLASS_NAME, findBy.className());
+        putIfSet(values, How.CSS, findBy.css());
+        putIfSet(values, How.TAG_NAME, findBy.tagName());
+        putIfSet(values, How.LINK_TEXT, findBy.linkText());
+        putIfSet(values, How.PARTIAL_LINK_TEXT, findBy.partialLinkText());
+        putIfSet(values, How.XPATH, findBy.xpath());
+        if (values.size() != 1) {
+            return null;
+        }
+        Map.Entry<How, String> entry = values.entrySet().iterator().next();
+        return byExpression(entry.getKey(), entry.getValue());
+    }
+
+    private static String byExpression(How how, String using) {
+        String literal = stringLiteral(using);
+        return switch (how) {
+            case ID -> "By.id(" + literal + ")";
+            case NAME -> "By.name(" + literal + ")";
+            case CLASS_NAME -> "By.className(" + literal + ")";
+            case CSS -> "By.cssSelector(" + literal + ")";
+            case TAG_NAME -> "By.tagName(" + literal + ")";
+            case LINK_TEXT -> "By.linkText(" + literal + ")";
+            case PARTIAL_LINK_TEXT -> "By.partialLinkText(" + literal + ")";
+            case XPATH -> "By.xpath(" + literal + ")";
+            case ID_OR_NAME -> "new org.openqa.selenium.support.ByIdOrName(" + literal + ")";
+            default -> null;
+        };
+    }
+
+    private static void putIfSet(Map<How, String> values, How how, String value) {
+        if (!value.isEmpty()) {
+            values.put(how, value);
+        }
+    }
+
+    private static String stringLiteral(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                default -> sb.append(c);
+            }
+        }
+        return sb.append('"').toString();
+    }
+}
@@ -0,0 +1,713 @@
+package com.praktikum.testing.otomation.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stand-in lokal untuk http://demowebshop.tricentis.com
+ * Menyediakan halaman, form dan endpoint AJAX yang dipakai page objects:
+ * home, search, detail produk, add-to-cart, cart, login, register dan checkout
+ */
+public class DemoWebShopServer extends StubServer {
+    static final String CUSTOMER_COOKIE = "Nop.customer";
+    static final String AUTH_COOKIE = "NOPCOMMERCE.AUTH";
+
+    private static final Pattern CATALOG_ADD = Pattern.compile("^/addproducttocart/catalog/(\\d+)/1/(\\d+)$");
+    private static final Pattern DETAILS_ADD = Pattern.compile("^/addproducttocart/details/(\\d+)/1$");
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final String[] COUNTRIES = {"United States", "Canada", "Germany", "Indonesia", "United Kingdom"};
+
+    private static DemoWebShopServer shared;
+
+    private final Map<Integer, Product> products = new LinkedHashMap<>();
+    private final Map<String, Customer> guests = new ConcurrentHashMap<>();
+    private final Map<String, Customer> accounts = new ConcurrentHashMap<>();
+    private final Map<String, String> authTokens = new ConcurrentHashMap<>();
+    private final AtomicInteger orderNumbers = new AtomicInteger(1000);
+
+    public DemoWebShopServer() {
+        addProduct(2, "25-virtual-gift-card", "$25 Virtual Gift Card", "25.00",
+                "$25 Gift Card. Gift Cards must be redeemed through our site Web site toward the purchase of eligible products.");
+        addProduct(31, "141-inch-laptop", "14.1-inch Laptop", "1590.00",
+                "Unique Asian-influenced imprint wraps the laptop both inside and out");
+        addProduct(72, "build-your-cheap-own-computer", "Build your own cheap computer", "800.00",
+                "Build it");
+        addProduct(74, "build-your-own-expensive-computer", "Build your own expensive computer", "1800.00",
+                "Build it");
+        addProduct(75, "simple-computer", "Simple Computer", "800.00",
+                "Simple computer 800 Mhz");
+        addProduct(53, "3rd-album", "3rd Album", "1.00",
+                "Third album");
+        addProduct(13, "computing-and-internet", "Computing and Internet", "10.00",
+                "More Than 100 tips about computing and internet.");
+        addProduct(45, "fiction", "Fiction", "24.00",
+                "Fiction book");
+        addProduct(22, "health", "Health Book", "10.00",
+                "Worried about your health. Get the book!");
+
+        // Akun default yang dipakai oleh test login/checkout
+        accounts.put("testuser@example.com", new Customer("testuser@example.com", "Test@123", "Test", "User"));
+    }
+
+    // Instance bersama untuk satu JVM, di-start saat pertama kali dipakai
+    public static synchronized DemoWebShopServer shared() {
+        if (shared == null) {
+            shared = new DemoWebShopServer();
+            shared.start(0);
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "demowebshop-stop"));
+        }
+        return shared;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Customer customer = resolveCustomer(exchange);
+
+        if (path.endsWith(".png") || path.endsWith(".jpeg") || path.equals("/favicon.ico")) {
+            sendBytes(exchange, 200, "image/png", PIXEL_PNG);
+            return;
+        }
+
+        Matcher catalogAdd = CATALOG_ADD.matcher(path);
+        Matcher detailsAdd = DETAILS_ADD.matcher(path);
+        if (method.equals("POST") && catalogAdd.matches()) {
+            addToCart(exchange, customer, Integer.parseInt(catalogAdd.group(1)), Integer.parseInt(catalogAdd.group(2)));
+            return;
+        }
+        if (method.equals("POST") && detailsAdd.matches()) {
+            int productId = Integer.parseInt(detailsAdd.group(1));
+            String quantity = first(parseForm(exchange), "addtocart_" + productId + ".EnteredQuantity");
+            addToCart(exchange, customer, productId, parseQuantity(quantity, 1));
+            return;
+        }
+
+        switch (method + " " + path) {
+            case "GET /" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop", homeBody()));
+            case "GET /search" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Search",
+                    searchBody(first(parseQuery(exchange), "q"))));
+            case "GET /cart" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Shopping Cart", cartBody(customer)));
+            case "POST /cart" -> updateCart(exchange, customer);
+            case "GET /login" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Login",
+                    loginBody("", "", "", first(parseQuery(exchange), "returnUrl"))));
+            case "POST /login" -> login(exchange, customer);
+            case "GET /logout" -> {
+                deleteCookie(exchange, AUTH_COOKIE);
+                redirect(exchange, "/");
+            }
+            case "GET /register" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Register",
+                    registerBody(Map.of(), Map.of(), "")));
+            case "POST /register" -> register(exchange, customer);
+            case "GET /registerresult/1" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Register",
+                    "<div class=\"page registration-result-page\"><div class=\"page-title\"><h1>Register</h1></div>"
+                            + "<div class=\"page-body\"><div class=\"result\">Your registration completed</div>"
+                            + "<div class=\"buttons\"><input type=\"button\" class=\"button-1 register-continue-button\" value=\"Continue\" "
+                            + "onclick=\"location.href='/'\"/></div></div></div>"));
+            case "GET /customer/info" -> {
+                if (customer.email == null) {
+                    redirect(exchange, "/login?returnUrl=%2Fcustomer%2Finfo");
+                } else {
+                    sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Account",
+                            "<div class=\"page account-page\"><div class=\"page-title\"><h1>My account - Customer info</h1></div>"
+                                    + "<div class=\"page-body\"><p class=\"email\">" + escape(customer.email) + "</p></div></div>"));
+                }
+            }
+            case "GET /onepagecheckout" -> {
+                if (customer.email == null) {
+                    redirect(exchange, "/login?returnUrl=%2Fonepagecheckout");
+                } else if (customer.cart.isEmpty()) {
+                    redirect(exchange, "/cart");
+                } else {
+                    sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Checkout", checkoutBody(customer)));
+                }
+            }
+            case "POST /checkout/OpcSaveBilling" -> saveBilling(exchange);
+            case "POST /checkout/OpcConfirmOrder" -> confirmOrder(exchange, customer);
+            case "GET /checkout/completed" -> sendHtml(exchange, 200, layout(customer, "Demo Web Shop. Checkout",
+                    completedBody(first(parseQuery(exchange), "orderId"))));
+            default -> {
+                Product product = findBySlug(path.substring(1));
+                if (method.equals("GET") && product != null) {
+                    sendHtml(exchange, 200, layout(customer, "Demo Web Shop. " + product.name, productBody(product)));
+                } else {
+                    notFound(exchange);
+                }
+            }
+        }
+    }
+
+    // ===== Session =====
+
+    // Customer dari auth cookie (login) atau guest cookie; guest baru dibuat jika belum ada
+    private Customer resolveCustomer(HttpExchange exchange) {
+        Map<String, String> cookies = cookies(exchange);
+        String email = authTokens.get(cookies.getOrDefault(AUTH_COOKIE, ""));
+        if (email != null && accounts.containsKey(email)) {
+            return accounts.get(email);
+        }
+        String guestId = cookies.get(CUSTOMER_COOKIE);
+        if (guestId == null || !guests.containsKey(guestId)) {
+            guestId = UUID.randomUUID().toString();
+            guests.put(guestId, new Customer(null, null, null, null));
+            setCookie(exchange, CUSTOMER_COOKIE, guestId);
+        }
+        return guests.get(guestId);
+    }
+
+    private void signIn(HttpExchange exchange, Customer guest, Customer account) {
+        // Cart guest digabung ke cart akun, seperti nopCommerce
+        synchronized (account) {
+            synchronized (guest) {
+                guest.cart.forEach((id, qty) -> account.cart.merge(id, qty, Integer::sum));
+                guest.cart.clear();
+            }
+        }
+        String token = UUID.randomUUID().toString();
+        authTokens.put(token, account.email);
+        setCookie(exchange, AUTH_COOKIE, token);
+    }
+
+    // ===== Actions =====
+
+    private void addToCart(HttpExchange exchange, Customer customer, int productId, int quantity) throws IOException {
+        Product product = products.get(productId);
+        if (product == null) {
+            sendJson(exchange, "{\"success\":false,\"message\":\"No product found with the specified ID\"}");
+            return;
+        }
+        int count;
+        synchronized (customer) {
+            customer.cart.merge(productId, Math.max(1, quantity), Integer::sum);
+            count = customer.cartCount();
+        }
+        sendJson(exchange, "{\"success\":true,\"message\":"
+                + json("The product has been added to your <a href=\"/cart\">shopping cart</a>")
+                + ",\"updatetopcartsectionhtml\":" + json("(" + count + ")") + "}");
+    }
+
+    private void updateCart(HttpExchange exchange, Customer customer) throws IOException {
+        Map<String, List<String>> form = parseForm(exchange);
+        List<String> itemIds = form.getOrDefault("itemid", List.of());
+        List<String> quantities = form.getOrDefault("itemquantity", List.of());
+
+        synchronized (customer) {
+            for (int i = 0; i < itemIds.size() && i < quantities.size(); i++) {
+                int productId = parseQuantity(itemIds.get(i), -1);
+                int quantity = parseQuantity(quantities.get(i), -1);
+                if (customer.cart.containsKey(productId) && quantity >= 0) {
+                    if (quantity == 0) {
+                        customer.cart.remove(productId);
+                    } else {
+                        customer.cart.put(productId, Math.min(quantity, 10000));
+                    }
+                }
+            }
+            for (String removeId : form.getOrDefault("removefromcart", List.of())) {
+                customer.cart.remove(parseQuantity(removeId, -1));
+            }
+        }
+
+        if (form.containsKey("continueshopping")) {
+            redirect(exchange, "/");
+        } else if (form.containsKey("checkout")) {
+            redirect(exchange, "/onepagecheckout");
+        } else {
+            redirect(exchange, "/cart");
+        }
+    }
+
+    private void login(HttpExchange exchange, Customer current) throws IOException {
+        Map<String, List<String>> form = parseForm(exchange);
+        String email = first(form, "Email").trim();
+        String password = first(form, "Password");
+        String returnUrl = first(parseQuery(exchange), "returnUrl");
+
+        if (email.isEmpty()) {
+            sendHtml(exchange, 200, layout(current, "Demo Web Shop. Login",
+                    loginBody(email, "Please enter your email", "", returnUrl)));
+            return;
+        }
+        if (!EMAIL.matcher(email).matches()) {
+            sendHtml(exchange, 200, layout(current, "Demo Web Shop. Login",
+                    loginBody(email, "Wrong email", "", returnUrl)));
+            return;
+        }
+
+        Customer account = accounts.get(email.toLowerCase(Locale.ROOT));
+        if (account == null || !account.password.equals(password)) {
+            String reason = account == null ? "No customer account found" : "The credentials provided are incorrect";
+            sendHtml(exchange, 200, layout(current, "Demo Web Shop. Login",
+                    loginBody(email, "", reason, returnUrl)));
+            return;
+        }
+
+        signIn(exchange, current, account);
+        redirect(exchange, returnUrl.startsWith("/") ? returnUrl : "/");
+    }
+
+    private void register(HttpExchange exchange, Customer current) throws IOException {
+        Map<String, List<String>> form = parseForm(exchange);
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String field : List.of("Gender", "FirstName", "LastName", "Email")) {
+            values.put(field, first(form, field).trim());
+        }
+        String password = first(form, "Password");
+        String confirmPassword = first(form, "ConfirmPassword");
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        if (values.get("FirstName").isEmpty()) errors.put("FirstName", "First name is required.");
+        if (values.get("LastName").isEmpty()) errors.put("LastName", "Last name is required.");
+        if (values.get("Email").isEmpty()) {
+            errors.put("Email", "Email is required.");
+        } else if (!EMAIL.matcher(values.get("Email")).matches()) {
+            errors.put("Email", "Wrong email");
+        }
+        if (password.isEmpty()) {
+            errors.put("Password", "Password is required.");
+        } else if (password.length() < 6) {
+            errors.put("Password", "The password should have at least 6 characters.");
+        }
+        if (confirmPassword.isEmpty()) {
+            errors.put("ConfirmPassword", "Password is required.");
+        } else if (!confirmPassword.equals(password)) {
+            errors.put("ConfirmPassword", "The password and confirmation password do not match.");
+        }
+
+        if (!errors.isEmpty()) {
+            sendHtml(exchange, 200, layout(current, "Demo Web Shop. Register", registerBody(values, errors, "")));
+            return;
+        }
+
+        String key = values.get("Email").toLowerCase(Locale.ROOT);
+        Customer account = new Customer(key, password, values.get("FirstName"), values.get("LastName"));
+        if (accounts.putIfAbsent(key, account) != null) {
+            sendHtml(exchange, 200, layout(current, "Demo Web Shop. Register",
+                    registerBody(values, errors, "The specified email already exists")));
+            return;
+        }
+
+        // nopCommerce langsung login setelah registrasi
+        signIn(exchange, current, account);
+        redirect(exchange, "/registerresult/1");
+    }
+
+    private void saveBilling(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> form = parseForm(exchange);
+        Map<String, String> required = new LinkedHashMap<>();
+        required.put("FirstName", "First name is required.");
+        required.put("LastName", "Last name is required.");
+        required.put("Email", "Email is required.");
+        required.put("CountryId", "Country is required.");
+        required.put("City", "City is required");
+        required.put("Address1", "Street address is required");
+        required.put("ZipPostalCode", "Zip / postal code is required");
+        required.put("PhoneNumber", "Phone is required");
+
+        StringBuilder errors = new StringBuilder();
+        for (Map.Entry<String, String> field : required.entrySet()) {
+            String value = first(form, "BillingNewAddress." + field.getKey()).trim();
+            if (value.isEmpty() || (field.getKey().equals("CountryId") && value.equals("0"))) {
+                errors.append(errors.length() == 0 ? "" : ",")
+                        .append(json("BillingNewAddress." + field.getKey())).append(':').append(json(field.getValue()));
+            }
+        }
+        if (errors.length() > 0) {
+            sendJson(exchange, "{\"success\":false,\"errors\":{" + errors + "}}");
+        } else {
+            sendJson(exchange, "{\"success\":true}");
+        }
+    }
+
+    private void confirmOrder(HttpExchange exchange, Customer customer) throws IOException {
+        synchronized (customer) {
+            if (customer.email == null || customer.cart.isEmpty()) {
+                sendJson(exchange, "{\"success\":false,\"error\":\"Your shopping cart is empty\"}");
+                return;
+            }
+            customer.cart.clear();
+        }
+        sendJson(exchange, "{\"success\":true,\"redirect\":\"/checkout/completed?orderId="
+                + orderNumbers.incrementAndGet() + "\"}");
+    }
+
+    // ===== Pages =====
+
+    private String layout(Customer customer, String title, String body) {
+        String links = customer.email == null
+                ? "<li><a href=\"/register\" class=\"ico-register\">Register</a></li>"
+                + "<li><a href=\"/login\" class=\"ico-login\">Log in</a></li>"
+                : "<li><a href=\"/customer/info\" class=\"account ico-account\">" + escape(customer.email) + "</a></li>"
+                + "<li><a href=\"/logout\" class=\"ico-logout\">Log out</a></li>";
+        int cartCount;
+        synchronized (customer) {
+            cartCount = customer.cartCount();
+        }
+        return "<!DOCTYPE html><html><head><meta charset=\"utf-8\"/><title>" + escape(title) + "</title>"
+                + "<style>body{font-family:Arial,sans-serif;margin:0 auto;width:980px}"
+                + ".bar-notification{position:fixed;top:0;left:0;right:0;padding:10px;background:#4bb07a;color:#fff}"
+                + ".bar-notification.error{background:#e4444c}.bar-notification .close{float:right;cursor:pointer;padding:0 8px}"
+                + ".field-validation-error{color:#e4434b}.validation-summary-errors{color:#e4434b}"
+                + ".product-grid .item-box{display:inline-block;width:220px;vertical-align:top;margin:5px}"
+                + ".header-links ul,.header-links li{display:inline;list-style:none;margin-right:10px}</style>"
+                + "<script>" + SCRIPT + "</script></head><body>"
+                + "<div id=\"bar-notification\" class=\"bar-notification\" style=\"display:none\">"
+                + "<span class=\"close\" title=\"Close\" onclick=\"closeNotification()\">X</span><p class=\"content\"></p></div>"
+                + "<div class=\"master-wrapper-page\"><div class=\"header\">"
+                + "<div class=\"header-logo\"><a href=\"/\"><img title=\"\" alt=\"Tricentis Demo Web Shop\" src=\"/Themes/DefaultClean/Content/images/logo.png\"/></a></div>"
+                + "<div class=\"header-links-wrapper\"><div class=\"header-links\"><ul>" + links
+                + "<li id=\"topcartlink\"><a href=\"/cart\" class=\"ico-cart\"><span class=\"cart-label\">Shopping cart</span> "
+                + "<span class=\"cart-qty\">(" + cartCount + ")</span></a></li></ul></div></div>"
+                + "<div class=\"search-box\"><form action=\"/search\" method=\"get\" onsubmit=\"return check_small_search_form()\">"
+                + "<input type=\"text\" class=\"search-box-text\" id=\"small-searchterms\" name=\"q\" value=\"\"/>"
+                + "<input type=\"submit\" class=\"button-1 search-box-button\" value=\"Search\"/></form></div></div>"
+                + "<div class=\"master-wrapper-content\">" + body + "</div>"
+                + "<div class=\"footer\"><div class=\"footer-disclaimer\">Copyright &copy; Tricentis Demo Web Shop (local stand-in)</div></div>"
+                + "</div></body></html>";
+    }
+
+    private String homeBody() {
+        List<Product> featured = new ArrayList<>(products.values()).subList(0, 6);
+        return "<div class=\"page home-page\"><div class=\"page-body\"><div class=\"product-grid home-page-product-grid\">"
+                + "<div class=\"title\"><strong>Featured products</strong></div>" + productGrid(featured) + "</div></div></div>";
+    }
+
+    private String searchBody(String query) {
+        StringBuilder body = new StringBuilder("<div class=\"page search-page\"><div class=\"page-title\"><h1>Search</h1></div>"
+                + "<div class=\"page-body\"><div class=\"search-input\"><form action=\"/search\" method=\"get\">"
+                + "<input class=\"search-text\" id=\"Q\" name=\"q\" type=\"text\" value=\"" + escape(query) + "\"/>"
+                + "<input type=\"submit\" class=\"button-1 search-button\" value=\"Search\"/></form></div>"
+                + "<div class=\"search-results\">");
+        String term = query.trim().toLowerCase(Locale.ROOT);
+        if (term.length() < 3) {
+            body.append("<strong class=\"warning\">Search term minimum length is 3 characters</strong>");
+        } else {
+            List<Product> results = new ArrayList<>();
+            for (Product product : products.values()) {
+                if (product.name.toLowerCase(Locale.ROOT).contains(term)
+                        || product.shortDescription.toLowerCase(Locale.ROOT).contains(term)) {
+                    results.add(product);
+                }
+            }
+            if (results.isEmpty()) {
+                body.append("<strong class=\"result\">No products were found that matched your criteria.</strong>");
+            } else {
+                body.append("<div class=\"product-list\">").append(productGrid(results)).append("</div>");
+            }
+        }
+        return body.append("</div></div></div>").toString();
+    }
+
+    private String productGrid(List<Product> items) {
+        StringBuilder grid = new StringBuilder();
+        for (Product product : items) {
+            grid.append("<div class=\"item-box\"><div class=\"product-item\" data-productid=\"").append(product.id).append("\">")
+                    .append("<div class=\"picture\"><a href=\"/").append(product.slug).append("\" title=\"Show details for ")
+                    .append(escape(product.name)).append("\"><img alt=\"Picture of ").append(escape(product.name))
+                    .append("\" src=\"/content/images/thumbs/product_").append(product.id).append(".png\"/></a></div>")
+                    .append("<div class=\"details\"><h2 class=\"product-title\"><a href=\"/").append(product.slug).append("\">")
+                    .append(escape(product.name)).append("</a></h2>")
+                    .append("<div class=\"add-info\"><div class=\"prices\"><span class=\"price actual-price\">")
+                    .append(product.price).append("</span></div><div class=\"buttons\">")
+                    .append("<input type=\"button\" value=\"Add to cart\" class=\"button-2 product-box-add-to-cart-button\" ")
+                    .append("onclick=\"AjaxCart.add('/addproducttocart/catalog/").append(product.id)
+                    .append("/1/1');return false;\"/></div></div></div></div></div>");
+        }
+        return grid.toString();
+    }
+
+    private String productBody(Product product) {
+        int id = product.id;
+        return "<div class=\"page product-details-page\"><div class=\"page-body\">"
+                + "<form id=\"product-details-form\" onsubmit=\"return false;\"><div class=\"product-essential\">"
+                + "<div class=\"gallery\"><div class=\"picture\"><img alt=\"Picture of " + escape(product.name)
+                + "\" src=\"/content/images/product_" + id + ".png\" title=\"" + escape(product.name)
+                + "\" id=\"main-product-img-" + id + "\" width=\"300\" height=\"300\"/></div></div>"
+                + "<div class=\"overview\"><div class=\"product-name\"><h1 itemprop=\"name\">" + escape(product.name) + "</h1></div>"
+                + "<div class=\"short-description\">" + escape(product.shortDescription) + "</div>"
+                + "<div class=\"product-price\"><span itemprop=\"price\" class=\"price-value-" + id + "\">" + product.price + "</span></div>"
+                + "<div class=\"add-to-cart\"><div class=\"add-to-cart-panel\">"
+                + "<label class=\"qty-label\" for=\"product_enteredQuantity_" + id + "\">Qty:</label>"
+                + "<input class=\"qty-input\" id=\"product_enteredQuantity_" + id + "\" name=\"addtocart_" + id
+                + ".EnteredQuantity\" type=\"text\" value=\"1\"/>"
+                + "<input type=\"button\" id=\"add-to-cart-button-" + id + "\" class=\"button-1 add-to-cart-button\" value=\"Add to cart\" "
+                + "onclick=\"AjaxCart.add('/addproducttocart/details/" + id + "/1', document.getElementById('product-details-form'));return false;\"/>"
+                + "</div></div></div></div></form></div></div>";
+    }
+
+    private String cartBody(Customer customer) {
+        StringBuilder body = new StringBuilder("<div class=\"page shopping-cart-page\"><div class=\"page-title\"><h1>Shopping cart</h1></div>"
+                + "<div class=\"page-body\"><div class=\"order-summary-content\">");
+        Map<Integer, Integer> cart;
+        synchronized (customer) {
+            cart = new LinkedHashMap<>(customer.cart);
+        }
+        if (cart.isEmpty()) {
+            return body.append("Your Shopping Cart is empty!</div></div></div>").toString();
+        }
+
+        BigDecimal total = BigDecimal.ZERO;
+        body.append("<form action=\"/cart\" method=\"post\"><table class=\"cart\"><thead><tr>")
+                .append("<th>Remove</th><th>Product(s)</th><th>Price</th><th>Qty.</th><th>Total</th></tr></thead><tbody>");
+        for (Map.Entry<Integer, Integer> item : cart.entrySet()) {
+            Product product = products.get(item.getKey());
+            BigDecimal subtotal = product.price.multiply(BigDecimal.valueOf(item.getValue()));
+            total = total.add(subtotal);
+            body.append("<tr class=\"cart-item-row\">")
+                    .append("<td class=\"remove-from-cart\"><input type=\"checkbox\" name=\"removefromcart\" value=\"").append(product.id).append("\"/></td>")
+                    .append("<td class=\"product\"><a href=\"/").append(product.slug).append("\" class=\"product-name\">")
+                    .append(escape(product.name)).append("</a></td>")
+                    .append("<td class=\"unit-price nobr\"><span class=\"product-unit-price\">").append(product.price).append("</span></td>")
+                    .append("<td class=\"qty nobr\"><input name=\"itemquantity\" type=\"text\" value=\"").append(item.getValue())
+                    .append("\" class=\"qty-input\"/><input type=\"hidden\" name=\"itemid\" value=\"").append(product.id).append("\"/></td>")
+                    .append("<td class=\"subtotal nobr end\"><span class=\"product-subtotal\">").append(subtotal).append("</span></td></tr>");
+        }
+        body.append("</tbody></table><div class=\"buttons\"><div class=\"common-buttons\">")
+                .append("<input type=\"submit\" name=\"updatecart\" value=\"Update shopping cart\" class=\"button-2 update-cart-button\"/>")
+                .append("<input type=\"submit\" name=\"continueshopping\" value=\"Continue shopping\" class=\"button-2 continue-shopping-button\"/>")
+                .append("</div></div><div class=\"cart-footer\"><div class=\"totals\"><div class=\"total-info\"><table class=\"cart-total\">")
+                .append("<tr><td class=\"cart-total-left\"><span class=\"nobr\">Sub-Total:</span></td>")
+                .append("<td class=\"cart-total-right\"><span class=\"nobr\"><span class=\"product-price\">").append(total).append("</span></span></td></tr>")
+                .append("<tr><td class=\"cart-total-left\"><span class=\"nobr\">Total:</span></td>")
+                .append("<td class=\"cart-total-right\"><span class=\"nobr\"><span class=\"product-price order-total\"><strong>")
+                .append(total).append("</strong></span></span></td></tr></table></div>")
+                .append("<div id=\"terms-of-service-warning-box\" style=\"display:none\">Please accept the terms of service before the next step.</div>")
+                .append("<div class=\"terms-of-service\"><input id=\"termsofservice\" type=\"checkbox\" name=\"termsofservice\"/>")
+                .append("<label for=\"termsofservice\">I agree with the terms of service and I adhere to them unconditionally</label></div>")
+                .append("<div class=\"checkout-buttons\"><button type=\"submit\" id=\"checkout\" name=\"checkout\" value=\"checkout\" ")
+                .append("class=\"button-1 checkout-button\" onclick=\"return checkTermsOfService();\">Checkout</button></div>")
+                .append("</div></div></form></div></div></div>");
+        return body.toString();
+    }
+
+    private String loginBody(String email, String emailError, String summaryReason, String returnUrl) {
+        String action = returnUrl.isEmpty() ? "/login" : "/login?returnUrl=" + urlEncode(returnUrl);
+        String summary = summaryReason.isEmpty() ? ""
+                : "<div class=\"message-error\"><div class=\"validation-summary-errors\"><span>Login was unsuccessful. "
+                + "Please correct the errors and try again.</span><ul><li>" + escape(summaryReason) + "</li></ul></div></div>";
+        return "<div class=\"page login-page\"><div class=\"page-title\"><h1>Welcome, Please Sign In!</h1></div>"
+                + "<div class=\"page-body\"><div class=\"returning-wrapper\"><form action=\"" + escape(action) + "\" method=\"post\">"
+                + summary
+                + "<div class=\"form-fields\"><div class=\"inputs\"><label for=\"Email\">Email:</label>"
+                + "<input class=\"email\" id=\"Email\" name=\"Email\" type=\"text\" value=\"" + escape(email) + "\"/>"
+                + validationSpan("Email", emailError) + "</div>"
+                + "<div class=\"inputs\"><label for=\"Password\">Password:</label>"
+                + "<input class=\"password\" id=\"Password\" name=\"Password\" type=\"password\"/></div>"
+                + "<div class=\"inputs reversed\"><input id=\"RememberMe\" name=\"RememberMe\" type=\"checkbox\" value=\"true\"/>"
+                + "<label for=\"RememberMe\">Remember me?</label></div></div>"
+                + "<div class=\"buttons\"><input class=\"button-1 login-button\" type=\"submit\" value=\"Log in\"/></div>"
+                + "</form></div></div></div>";
+    }
+
+    private String registerBody(Map<String, String> values, Map<String, String> errors, String summaryError) {
+        String gender = values.getOrDefault("Gender", "");
+        String summary = summaryError.isEmpty() ? ""
+                : "<div class=\"message-error\"><div class=\"validation-summary-errors\"><ul><li>"
+                + escape(summaryError) + "</li></ul></div></div>";
+        return "<div class=\"page registration-page\"><div class=\"page-title\"><h1>Register</h1></div>"
+                + "<div class=\"page-body\"><form action=\"/register\" method=\"post\">" + summary
+                + "<div class=\"fieldset\"><div class=\"title\"><strong>Your Personal Details</strong></div><div class=\"form-fields\">"
+                + "<div class=\"inputs\"><label>Gender:</label>"
+                + "<div class=\"gender\"><input id=\"gender-male\" name=\"Gender\" type=\"radio\" value=\"M\""
+                + (gender.equals("M") ? " checked" : "") + "/><label class=\"forcheckbox\" for=\"gender-male\">Male</label></div>"
+                + "<div class=\"gender\"><input id=\"gender-female\" name=\"Gender\" type=\"radio\" value=\"F\""
+                + (gender.equals("F") ? " checked" : "") + "/><label class=\"forcheckbox\" for=\"gender-female\">Female</label></div></div>"
+                + registerInput("FirstName", "First name:", "text", values, errors)
+                + registerInput("LastName", "Last name:", "text", values, errors)
+                + registerInput("Email", "Email:", "text", values, errors)
+                + "</div></div><div class=\"fieldset\"><div class=\"title\"><strong>Your Password</strong></div><div class=\"form-fields\">"
+                + registerInput("Password", "Password:", "password", Map.of(), errors)
+                + registerInput("ConfirmPassword", "Confirm password:", "password", Map.of(), errors)
+                + "</div></div><div class=\"buttons\"><input type=\"submit\" id=\"register-button\" class=\"button-1 register-next-step-button\" "
+                + "value=\"Register\" name=\"register-button\"/></div></form></div></div>";
+    }
+
+    private String registerInput(String name, String label, String type, Map<String, String> values, Map<String, String> errors) {
+        return "<div class=\"inputs\"><label for=\"" + name + "\">" + label + "</label>"
+                + "<input class=\"text-box single-line\" id=\"" + name + "\" name=\"" + name + "\" type=\"" + type
+                + "\" value=\"" + escape(values.getOrDefault(name, "")) + "\"/>"
+                + validationSpan(name, errors.getOrDefault(name, "")) + "</div>";
+    }
+
+    // Format span validasi seperti jQuery unobtrusive validation di nopCommerce
+    private String validationSpan(String field, String message) {
+        if (message.isEmpty()) {
+            return "<span class=\"field-validation-valid\" data-valmsg-for=\"" + field + "\" data-valmsg-replace=\"true\"></span>";
+        }
+        return "<span class=\"field-validation-error\" data-valmsg-for=\"" + field + "\" data-valmsg-replace=\"true\">"
+                + "<span for=\"" + field + "\" generated=\"true\">" + escape(message) + "</span></span>";
+    }
+
+    private String checkoutBody(Customer customer) {
+        StringBuilder countries = new StringBuilder("<option value=\"0\">Select country</option>");
+        for (int i = 0; i < COUNTRIES.length; i++) {
+            countries.append("<option value=\"").append(i + 1).append("\">").append(COUNTRIES[i]).append("</option>");
+        }
+        return "<div class=\"page checkout-page\"><div class=\"page-title\"><h1>Checkout</h1></div>"
+                + "<div class=\"page-body checkout-data\"><ol class=\"opc\" id=\"checkout-steps\">"
+                + "<li id=\"opc-billing\" class=\"tab-section allow active\"><div class=\"step-title\"><h2>Billing address</h2></div>"
+                + "<div id=\"checkout-step-billing\" class=\"step a-item\"><form id=\"co-billing-form\" onsubmit=\"return false;\">"
+                + "<div class=\"edit-address\">"
+                + billingInput("FirstName", "First name:", customer.firstName)
+                + billingInput("LastName", "Last name:", customer.lastName)
+                + billingInput("Email", "Email:", customer.email)
+                + "<div class=\"inputs\"><label for=\"BillingNewAddress_CountryId\">Country:</label>"
+                + "<select id=\"BillingNewAddress_CountryId\" name=\"BillingNewAddress.CountryId\">" + countries + "</select>"
+                + validationSpan("BillingNewAddress.CountryId", "") + "</div>"
+                + billingInput("City", "City:", "")
+                + billingInput("Address1", "Address 1:", "")
+                + billingInput("ZipPostalCode", "Zip / postal code:", "")
+                + billingInput("PhoneNumber", "Phone number:", "")
+                + "</div></form><div class=\"buttons\" id=\"billing-buttons-container\">"
+                + "<input type=\"button\" class=\"button-1 new-address-next-step-button\" onclick=\"Billing.save()\" value=\"Continue\"/>"
+                + "</div></div></li>"
+                + "<li id=\"opc-confirm_order\" class=\"tab-section\"><div class=\"step-title\"><h2>Confirm order</h2></div>"
+                + "<div id=\"checkout-step-confirm-order\" class=\"step a-item\" style=\"display:none\">"
+                + "<div class=\"buttons\" id=\"confirm-order-buttons-container\">"
+                + "<input type=\"button\" class=\"button-1 confirm-order-next-step-button\" onclick=\"ConfirmOrder.save()\" value=\"Confirm\"/>"
+                + "</div></div></li></ol></div></div>";
+    }
+
+    private String billingInput(String field, String label, String value) {
+        String id = "BillingNewAddress_" + field;
+        return "<div class=\"inputs\"><label for=\"" + id + "\">" + label + "</label>"
+                + "<input class=\"text-box single-line\" id=\"" + id + "\" name=\"BillingNewAddress." + field
+                + "\" type=\"text\" value=\"" + escape(value) + "\"/>"
+                + validationSpan("BillingNewAddress." + field, "") + "</div>";
+    }
+
+    private String completedBody(String orderId) {
+        return "<div class=\"page checkout-page\"><div class=\"page-title\"><h1>Thank you</h1></div>"
+                + "<div class=\"page-body checkout-data\"><div class=\"section order-completed\">"
+                + "<div class=\"title\"><strong>Your order has been successfully processed!</strong></div>"
+                + "<ul class=\"details\"><li class=\"order-number\">Order number: " + escape(orderId) + "</li></ul>"
+                + "<div class=\"buttons\"><input type=\"button\" value=\"Continue\" class=\"button-2 order-completed-continue-button\" "
+                + "onclick=\"location.href='/'\"/></div></div></div></div>";
+    }
+
+    // ===== Helpers =====
+
+    private void addProduct(int id, String slug, String name, String price, String shortDescription) {
+        products.put(id, new Product(id, slug, name, new BigDecimal(price), shortDescription));
+    }
+
+    private Product findBySlug(String slug) {
+        for (Product product : products.values()) {
+            if (product.slug.equals(slug)) {
+                return product;
+            }
+        }
+        return null;
+    }
+
+    private static int parseQuantity(String value, int defaultValue) {
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private record Product(int id, String slug, String name, BigDecimal price, String shortDescription) {
+    }
+
+    // Guest atau akun terdaftar; cart diakses dengan synchronized(customer)
+    private static class Customer {
+        final String email;
+        final String password;
+        final String firstName;
+        final String lastName;
+        final Map<Integer, Integer> cart = new LinkedHashMap<>();
+
+        Customer(String email, String password, String firstName, String lastName) {
+            this.email = email;
+            this.password = password;
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        int cartCount() {
+            int count = 0;
+            for (int quantity : cart.values()) {
+                count += quantity;
+            }
+            return count;
+        }
+    }
+
+    // JavaScript minimal pengganti public.common.js / public.ajaxcart.js
+    private static final String SCRIPT = """
+            function displayBarNotification(message, type) {
+              var bar = document.getElementById('bar-notification');
+              bar.className = 'bar-notification ' + type;
+              bar.querySelector('.content').innerHTML = message;
+              bar.style.display = 'block';
+            }
+            function closeNotification() {
+              document.getElementById('bar-notification').style.display = 'none';
+            }
+            function check_small_search_form() {
+              var q = document.getElementById('small-searchterms');
+              if (q.value.trim() === '') { alert('Please enter some search keyword'); q.focus(); return false; }
+              return true;
+            }
+            function checkTermsOfService() {
+              if (document.getElementById('termsofservice').checked) { return true; }
+              document.getElementById('terms-of-service-warning-box').style.display = 'block';
+              return false;
+            }
+            function postForm(url, form) {
+              return fetch(url, {
+                method: 'POST', credentials: 'same-origin',
+                headers: {'X-Requested-With': 'XMLHttpRequest', 'Content-Type': 'application/x-www-form-urlencoded'},
+                body: form ? new URLSearchParams(new FormData(form)).toString() : ''
+              }).then(function (response) { return response.json(); });
+            }
+            var AjaxCart = {
+              add: function (url, form) {
+                postForm(url, form).then(function (data) {
+                  if (data.redirect) { location.href = data.redirect; return; }
+                  if (data.updatetopcartsectionhtml) {
+                    document.querySelectorAll('.cart-qty').forEach(function (e) { e.textContent = data.updatetopcartsectionhtml; });
+                  }
+                  displayBarNotification(data.message, data.success ? 'success' : 'error');
+                });
+              }
+            };
+            var Billing = {
+              save: function () {
+                var form = document.getElementById('co-billing-form');
+                postForm('/checkout/OpcSaveBilling', form).then(function (data) {
+                  form.querySelectorAll('[data-valmsg-for]').forEach(function (span) {
+                    var message = data.errors ? data.errors[span.getAttribute('data-valmsg-for')] : null;
+                    span.className = message ? 'field-validation-error' : 'field-validation-valid';
+                    span.textContent = message || '';
+                  });
+                  if (data.success) {
+                    document.getElementById('checkout-step-billing').style.display = 'none';
+                    document.getElementById('checkout-step-confirm-order').style.display = 'block';
+                  }
+                });
+              }
+            };
+            var ConfirmOrder = {
+              save: function () {
+                postForm('/checkout/OpcConfirmOrder', null).then(function (data) {
+                  if (data.redirect) { location.href = data.redirect; } else { alert(data.error); }
+                });
+              }
+            };
+            """;
+}
@@ -0,0 +1,212 @@
+package com.praktikum.testing.otomation.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Base class untuk HTTP server lokal (stand-in) yang dipakai test
+ * Berjalan in-process di loopback memakai com.sun.net.httpserver
+ */
+public abstract class StubServer {
+    // PNG 1x1 transparan untuk semua gambar
+    static final byte[] PIXEL_PNG = Base64.getDecoder().decode(
+            "iVBORw0KGgoAAAANSUhEUgAAAAEAAAABCAYAAAAfFcSJAAAADUlEQVR42mNkYPhfDwAChwGA60e6kgAAAABJRU5ErkJggg==");
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    // Start server di port tertentu (0 = port bebas)
+    public synchronized void start(int port) {
+        if (server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start " + getClass().getSimpleName(), e);
+        }
+        executor = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, getClass().getSimpleName().toLowerCase() + "-http");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", exchange -> {
+            try {
+                handle(exchange);
+            } catch (Exception e) {
+                System.out.println(getClass().getSimpleName() + " error on " + exchange.getRequestURI() + ": " + e);
+                if (exchange.getResponseCode() == -1) {
+                    sendText(exchange, 500, "text/plain", "Internal error: " + e.getMessage());
+                }
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        System.out.println(getClass().getSimpleName() + " started at " + getBaseUrl());
+    }
+
+    public synchronized void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    // Base URL tanpa slash di akhir, contoh: http://127.0.0.1:54321
+    public synchronized String getBaseUrl() {
+        if (server == null) {
+            throw new IllegalStateException(getClass().getSimpleName() + " is not running");
+        }
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // Routing request, diimplementasikan oleh masing-masing stand-in
+    protected abstract void handle(HttpExchange exchange) throws IOException;
+
+    // ===== Helper response =====
+
+    static void sendHtml(HttpExchange exchange, int status, String html) throws IOException {
+        sendText(exchange, status, "text/html; charset=utf-8", html);
+    }
+
+    static void sendJson(HttpExchange exchange, String json) throws IOException {
+        sendText(exchange, 200, "application/json; charset=utf-8", json);
+    }
+
+    static void sendText(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        sendBytes(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static void sendBytes(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache, no-store");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    static void redirect(HttpExchange exchange, String location) throws IOException {
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+    }
+
+    static void notFound(HttpExchange exchange) throws IOException {
+        sendHtml(exchange, 404, "<html><head><title>404</title></head><body><h1>Page not found</h1></body></html>");
+    }
+
+    // ===== Helper request =====
+
+    static Map<String, List<String>> parseQuery(HttpExchange exchange) {
+        return parseParams(exchange.getRequestURI().getRawQuery());
+    }
+
+    static Map<String, List<String>> parseForm(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            return parseParams(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    static Map<String, List<String>> parseParams(String raw) {
+        Map<String, List<String>> params = new LinkedHashMap<>();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            if (pair.isEmpty()) {
+                continue;
+            }
+            int eq = pair.indexOf('=');
+            String key = decode(eq < 0 ? pair : pair.substring(0, eq));
+            String value = eq < 0 ? "" : decode(pair.substring(eq + 1));
+            params.computeIfAbsent(key, k -> new ArrayList<>()).add(value);
+        }
+        return params;
+    }
+
+    static String first(Map<String, List<String>> params, String key) {
+        List<String> values = params.get(key);
+        return values == null || values.isEmpty() ? "" : values.get(0);
+    }
+
+    static Map<String, String> cookies(HttpExchange exchange) {
+        Map<String, String> cookies = new HashMap<>();
+        for (String header : exchange.getRequestHeaders().getOrDefault("Cookie", List.of())) {
+            for (String part : header.split(";")) {
+                int eq = part.indexOf('=');
+                if (eq > 0) {
+                    cookies.put(part.substring(0, eq).trim(), part.substring(eq + 1).trim());
+                }
+            }
+        }
+        return cookies;
+    }
+
+    static void setCookie(HttpExchange exchange, String name, String value) {
+        exchange.getResponseHeaders().add("Set-Cookie", name + "=" + value + "; Path=/; HttpOnly");
+    }
+
+    static void deleteCookie(HttpExchange exchange, String name) {
+        exchange.getResponseHeaders().add("Set-Cookie", name + "=; Path=/; Max-Age=0");
+    }
+
+    // ===== Helper encoding =====
+
+    static String escape(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+
+    static String json(String text) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : text.toCharArray()) {
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    static String urlEncode(String text) {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8);
+    }
+
+    private static String decode(String text) {
+        return URLDecoder.decode(text, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,192 @@
+package com.praktikum.testing.otomation.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stand-in lokal untuk https://the-internet.herokuapp.com
+ * Halaman yang disediakan: login/secure, dynamic_loading, javascript_alerts,
+ * inputs, checkboxes, dropdown, windows dan iframe
+ */
+public class TheInternetServer extends StubServer {
+    static final String SESSION_COOKIE = "rack.session";
+    static final String FLASH_COOKIE = "flash";
+
+    private static final String USERNAME = "tomsmith";
+    private static final String PASSWORD = "SuperSecretPassword!";
+
+    private static TheInternetServer shared;
+
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private volatile int loadingDelayMs = 1000;
+
+    // Instance bersama untuk satu JVM, di-start saat pertama kali dipakai
+    public static synchronized TheInternetServer shared() {
+        if (shared == null) {
+            shared = new TheInternetServer();
+            shared.start(0);
+            Runtime.getRuntime().addShutdownHook(new Thread(shared::stop, "theinternet-stop"));
+        }
+        return shared;
+    }
+
+    // Lama animasi loading di halaman dynamic_loading (situs asli sekitar 5 detik)
+    public void setLoadingDelayMs(int loadingDelayMs) {
+        this.loadingDelayMs = loadingDelayMs;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+
+        switch (method + " " + path) {
+            case "GET /" -> page(exchange, "<h1 class=\"heading\">Welcome to the-internet</h1>"
+                    + "<h2>Available Examples</h2><ul>"
+                    + "<li><a href=\"/checkboxes\">Checkboxes</a></li>"
+                    + "<li><a href=\"/dropdown\">Dropdown</a></li>"
+                    + "<li><a href=\"/dynamic_loading\">Dynamic Loading</a></li>"
+                    + "<li><a href=\"/login\">Form Authentication</a></li>"
+                    + "<li><a href=\"/iframe\">Frames</a></li>"
+                    + "<li><a href=\"/inputs\">Inputs</a></li>"
+                    + "<li><a href=\"/javascript_alerts\">JavaScript Alerts</a></li>"
+                    + "<li><a href=\"/windows\">Multiple Windows</a></li></ul>");
+            case "GET /login" -> page(exchange, "<div class=\"example\"><h2>Login Page</h2>"
+                    + "<h4 class=\"subheader\">This is where you can log into the secure area. Enter <em>tomsmith</em> for the username "
+                    + "and <em>SuperSecretPassword!</em> for the password. If the information is wrong you should see error messages.</h4>"
+                    + "<form name=\"login\" method=\"post\" action=\"/authenticate\" id=\"login\">"
+                    + "<div class=\"row\"><div class=\"large-6 small-12 columns\"><label for=\"username\">Username</label>"
+                    + "<input type=\"text\" name=\"username\" id=\"username\"></div></div>"
+                    + "<div class=\"row\"><div class=\"large-6 small-12 columns\"><label for=\"password\">Password</label>"
+                    + "<input type=\"password\" name=\"password\" id=\"password\"></div></div>"
+                    + "<button class=\"radius\" type=\"submit\"><i class=\"fa fa-2x fa-sign-in\"> Login</i></button>"
+                    + "</form></div>");
+            case "POST /authenticate" -> authenticate(exchange);
+            case "GET /secure" -> {
+                if (!isLoggedIn(exchange)) {
+                    flash(exchange, "error", "You must login to view the secure area!");
+                    redirect(exchange, "/login");
+                } else {
+                    page(exchange, "<div class=\"example\"><h2><i class=\"icon-lock\"></i> Secure Area</h2>"
+                            + "<h4 class=\"subheader\">Welcome to the Secure Area. When you are done click logout below.</h4>"
+                            + "<a class=\"button secondary radius\" href=\"/logout\"><i class=\"icon-2x icon-signout\"> Logout</i></a></div>");
+                }
+            }
+            case "GET /logout" -> {
+                String session = cookies(exchange).get(SESSION_COOKIE);
+                if (session != null) {
+                    sessions.remove(session);
+                }
+                deleteCookie(exchange, SESSION_COOKIE);
+                flash(exchange, "success", "You logged out of the secure area!");
+                redirect(exchange, "/login");
+            }
+            case "GET /dynamic_loading" -> page(exchange, "<div class=\"example\"><h3>Dynamically Loaded Page Elements</h3>"
+                    + "<a href=\"/dynamic_loading/1\">Example 1: Element on page that is hidden</a><br>"
+                    + "<a href=\"/dynamic_loading/2\">Example 2: Element rendered after the fact</a></div>");
+            case "GET /dynamic_loading/1" -> page(exchange, dynamicLoading(true));
+            case "GET /dynamic_loading/2" -> page(exchange, dynamicLoading(false));
+            case "GET /javascript_alerts" -> page(exchange, "<div class=\"example\"><h3>JavaScript Alerts</h3>"
+                    + "<p>Here are some examples of different JavaScript alerts which can be troublesome for automation</p><ul>"
+                    + "<li><button onclick=\"jsAlert()\">Click for JS Alert</button></li>"
+                    + "<li><button onclick=\"jsConfirm()\">Click for JS Confirm</button></li>"
+                    + "<li><button onclick=\"jsPrompt()\">Click for JS Prompt</button></li></ul>"
+                    + "<h4>Result:</h4><p id=\"result\" style=\"color:green\"></p></div>"
+                    + "<script>"
+                    + "function log(text) { document.getElementById('result').innerHTML = text; }"
+                    + "function jsAlert() { alert('I am a JS Alert'); log('You successfully clicked an alert'); }"
+                    + "function jsConfirm() { log('You clicked: ' + (confirm('I am a JS Confirm') ? 'Ok' : 'Cancel')); }"
+                    + "function jsPrompt() { log('You entered: ' + prompt('I am a JS prompt')); }"
+                    + "</script>");
+            case "GET /inputs" -> page(exchange, "<div class=\"example\"><h3>Inputs</h3>"
+                    + "<div class=\"no-js-container\"><p>Number</p><input type=\"number\"></div></div>");
+            case "GET /checkboxes" -> page(exchange, "<div class=\"example\"><h3>Checkboxes</h3><form id=\"checkboxes\">"
+                    + "<input type=\"checkbox\"> checkbox 1<br><input type=\"checkbox\" checked> checkbox 2</form></div>");
+            case "GET /dropdown" -> page(exchange, "<div class=\"example\"><h3>Dropdown List</h3><select id=\"dropdown\">"
+                    + "<option value=\"\" disabled=\"disabled\" selected=\"selected\">Please select an option</option>"
+                    + "<option value=\"1\">Option 1</option><option value=\"2\">Option 2</option></select></div>");
+            case "GET /windows" -> page(exchange, "<div class=\"example\"><h3>Opening a new window</h3>"
+                    + "<a href=\"/windows/new\" target=\"_blank\">Click Here</a></div>");
+            case "GET /windows/new" -> sendHtml(exchange, 200, "<!DOCTYPE html><html><head><title>New Window</title></head>"
+                    + "<body><div class=\"example\"><h3>New Window</h3></div></body></html>");
+            case "GET /iframe" -> page(exchange, "<div class=\"example\"><h3>An iFrame containing the TinyMCE WYSIWYG Editor</h3>"
+                    + "<div class=\"tox-edit-area\"><iframe id=\"mce_0_ifr\" src=\"/iframe/editor\" title=\"Rich Text Area\" "
+                    + "style=\"width:100%;height:200px\"></iframe></div></div>");
+            case "GET /iframe/editor" -> sendHtml(exchange, 200, "<!DOCTYPE html><html><head><title>Editor</title></head>"
+                    + "<body id=\"tinymce\" class=\"mce-content-body\" contenteditable=\"true\"><p>Your content goes here.</p></body></html>");
+            case "GET /favicon.ico" -> sendBytes(exchange, 200, "image/png", PIXEL_PNG);
+            default -> notFound(exchange);
+        }
+    }
+
+    private void authenticate(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> form = parseForm(exchange);
+        String username = first(form, "username");
+        String password = first(form, "password");
+
+        if (!USERNAME.equals(username)) {
+            flash(exchange, "error", "Your username is invalid!");
+            redirect(exchange, "/login");
+        } else if (!PASSWORD.equals(password)) {
+            flash(exchange, "error", "Your password is invalid!");
+            redirect(exchange, "/login");
+        } else {
+            String session = UUID.randomUUID().toString();
+            sessions.add(session);
+            setCookie(exchange, SESSION_COOKIE, session);
+            flash(exchange, "success", "You logged into a secure area!");
+            redirect(exchange, "/secure");
+        }
+    }
+
+    private boolean isLoggedIn(HttpExchange exchange) {
+        String session = cookies(exchange).get(SESSION_COOKIE);
+        return session != null && sessions.contains(session);
+    }
+
+    // Flash message disimpan di cookie dan ditampilkan sekali di halaman berikutnya
+    private void flash(HttpExchange exchange, String type, String message) {
+        setCookie(exchange, FLASH_COOKIE, type + ":" + urlEncode(message));
+    }
+
+    private String dynamicLoading(boolean hidden) {
+        String finish = "<div id=\"finish\"" + (hidden ? " style=\"display:none\"" : "") + "><h4>Hello World!</h4></div>";
+        String reveal = hidden
+                ? "document.getElementById('finish').style.display = 'block';"
+                : "document.getElementById('loading').insertAdjacentHTML('afterend', '" + finish + "');";
+        return "<div class=\"example\"><h3>Dynamically Loaded Page Elements</h3>"
+                + "<h4>" + (hidden ? "Example 1: Element on page that is hidden" : "Example 2: Element rendered after the fact") + "</h4>"
+                + "<div id=\"start\"><button>Start</button></div>"
+                + "<div id=\"loading\" style=\"display:none\">Loading... </div>"
+                + (hidden ? finish : "")
+                + "<script>document.querySelector('#start button').addEventListener('click', function () {"
+                + "document.getElementById('start').style.display = 'none';"
+                + "document.getElementById('loading').style.display = 'block';"
+                + "setTimeout(function () { document.getElementById('loading').style.display = 'none';" + reveal + "}, "
+                + loadingDelayMs + "); });</script></div>";
+    }
+
+    private void page(HttpExchange exchange, String content) throws IOException {
+        String flash = "";
+        String raw = cookies(exchange).get(FLASH_COOKIE);
+        if (raw != null && raw.contains(":")) {
+            String type = raw.substring(0, raw.indexOf(':'));
+            String message = parseParams("m=" + raw.substring(raw.indexOf(':') + 1)).get("m").get(0);
+            flash = "<div data-alert id=\"flash\" class=\"flash " + escape(type) + "\">\n" + escape(message)
+                    + "\n<a href=\"#\" class=\"close\">x</a></div>";
+            deleteCookie(exchange, FLASH_COOKIE);
+        }
+        sendHtml(exchange, 200, "<!DOCTYPE html><html class=\"no-js\"><head><meta charset=\"utf-8\"><title>The Internet</title></head>"
+                + "<body><div class=\"row\"><div id=\"flash-messages\" class=\"large-12 columns\">" + flash + "</div></div>"
+                + "<div class=\"row\"><div id=\"content\" class=\"large-12 columns\">" + content + "</div></div>"
+                + "<div id=\"page-footer\" class=\"row\"><div class=\"large-4 large-centered columns\"><hr>"
+                + "<div style=\"text-align: center;\">Powered by <a target=\"_blank\" href=\"http://elementalselenium.com/\">Elemental Selenium</a>"
+                + "</div></div></div></body></html>");
+    }
+}
@@ -0,0 +1,158 @@
+package com.praktikum.testing.otomation.utils;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency per aksi page object (click, enterText, getText, isDisplayed, navigateTo)
+ * per class halaman, dipisah antara waktu menunggu (WebDriverWait) dan waktu command driver.
+ * Dicatat per test (ThreadLocal) untuk summary di report, dan dijumlahkan untuk seluruh suite.
+ */
+public class ActionMetrics {
+
+    private static final Map<String, ActionStats> suite = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, ActionStats>> currentTest = ThreadLocal.withInitial(TreeMap::new);
+
+    private ActionMetrics() {
+    }
+
+    // Mulai mengukur satu aksi; panggil waited() setelah wait selesai dan stop() di finally
+    public static Timer start(Class<?> page, String action) {
+        return new Timer(page.getSimpleName() + "." + action);
+    }
+
+    // Reset data milik thread ini di awal test
+    public static void startTest() {
+        currentTest.get().clear();
+    }
+
+    // Summary aksi selama test di thread ini, lalu data per test dibersihkan
+    public static String endTest() {
+        Map<String, ActionStats> stats = currentTest.get();
+        String summary = format(stats);
+        stats.clear();
+        return summary;
+    }
+
+    // Summary seluruh suite, diurutkan dari total waktu terbesar
+    public static String getSuiteSummary() {
+        return format(suite);
+    }
+
+    private static void record(String key, long waitNanos, long commandNanos) {
+        currentTest.get().computeIfAbsent(key, k -> new ActionStats()).record(waitNanos, commandNanos);
+        suite.computeIfAbsent(key, k -> new ActionStats()).record(waitNanos, commandNanos);
+    }
+
+    private static String format(Map<String, ActionStats> stats) {
+        if (stats.isEmpty()) {
+            return "Tidak ada aksi page object yang tercatat";
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-36s %6s %28s %28s%n", "Aksi", "n", "wait avg/p95/max (ms)", "command avg/p95/max (ms)"));
+        stats.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, ActionStats> e) -> e.getValue().totalNanos()).reversed())
+                .forEach(e -> {
+                    ActionStats s = e.getValue();
+                    sb.append(String.format("%-36s %6d %28s %28s%n", e.getKey(), s.wait.count(), s.wait, s.command));
+                });
+        return sb.toString();
+    }
+
+    /**
+     * Timer untuk satu aksi. Jika waited() tidak pernah dipanggil (mis. wait timeout),
+     * seluruh durasi dihitung sebagai waktu menunggu.
+     */
+    public static final class Timer {
+        private final String key;
+        private final long start = System.nanoTime();
+        private long waitEnd = -1;
+
+        private Timer(String key) {
+            this.key = key;
+        }
+
+        public void waited() {
+            waitEnd = System.nanoTime();
+        }
+
+        public void stop() {
+            long end = System.nanoTime();
+            long waitNanos = (waitEnd < 0 ? end : waitEnd) - start;
+            record(key, waitNanos, end - start - waitNanos);
+        }
+    }
+
+    private static final class ActionStats {
+        private final Histogram wait = new Histogram();
+        private final Histogram command = new Histogram();
+
+        void record(long waitNanos, long commandNanos) {
+            wait.record(waitNanos);
+            command.record(commandNanos);
+        }
+
+        long totalNanos() {
+            return wait.totalNanos() + command.totalNanos();
+        }
+    }
+
+    /**
+     * Histogram sederhana dengan bucket pangkat dua dalam mikrodetik, aman untuk banyak thread.
+     * Percentile dibulatkan ke batas atas bucket-nya
+     */
+    static final class Histogram {
+        private static final int BUCKETS = 40;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long nanos) {
+            long micros = Math.max(0, nanos / 1_000);
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+            buckets.incrementAndGet(bucket);
+            count.increment();
+            total.add(nanos);
+            max.accumulateAndGet(nanos, Math::max);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        long totalNanos() {
+            return total.sum();
+        }
+
+        // Batas atas bucket (dalam nanodetik) yang memuat percentile ke-p
+        long percentileNanos(double p) {
+            long n = count();
+            if (n == 0) {
+                return 0;
+            }
+            long rank = (long) Math.ceil(p * n);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) {
+                    return Math.min((1L << i) * 1_000, max.get());
+                }
+            }
+            return max.get();
+        }
+
+        @Override
+        public String toString() {
+            long n = count();
+            double avg = n == 0 ? 0 : totalNanos() / (double) n / 1_000_000;
+            return String.format("%.1f / %.1f / %.1f", avg, percentileNanos(0.95) / 1_000_000.0, max.get() / 1_000_000.0);
+        }
+    }
+}
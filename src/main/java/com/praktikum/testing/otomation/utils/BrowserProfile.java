@@ -0,0 +1,115 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Cara browser dijalankan: headless atau tidak, flag Chrome, dan ukuran viewport.
+ * Dibaca dari system properties, contoh:
+ * mvn test -Dbrowser.profile=headless -Dbrowser.window=1366x768 -Dbrowser.args=--lang=id
+ *
+ * Profile "desktop" (default) sama seperti sebelumnya: browser terlihat dan window di-maximize.
+ * Profile "headless" memakai viewport tetap supaya layout sama di setiap mesin/CI.
+ */
+public class BrowserProfile {
+
+    public static final String DESKTOP = "desktop";
+    public static final String HEADLESS = "headless";
+
+    private static final Dimension DEFAULT_HEADLESS_WINDOW = new Dimension(1366, 768);
+
+    // Fitur Chrome yang tidak dibutuhkan test tapi tetap memakan CPU/network saat startup
+    private static final List<String> TUNED_ARGS = List.of(
+            "--no-first-run",
+            "--no-default-browser-check",
+            "--disable-extensions",
+            "--disable-sync",
+            "--disable-background-networking",
+            "--disable-component-update",
+            "--disable-default-apps",
+            "--disable-notifications",
+            "--disable-dev-shm-usage",
+            "--mute-audio");
+
+    private final String name;
+    private final boolean headless;
+    private final Dimension window;
+    private final List<String> extraArgs;
+
+    private BrowserProfile(String name, boolean headless, Dimension window, List<String> extraArgs) {
+        this.name = name;
+        this.headless = headless;
+        this.window = window;
+        this.extraArgs = extraArgs;
+    }
+
+    // Profile dari -Dbrowser.profile, -Dbrowser.window dan -Dbrowser.args
+    public static BrowserProfile fromConfig() {
+        String name = System.getProperty("browser.profile", DESKTOP).trim().toLowerCase();
+        boolean headless = name.equals(HEADLESS);
+        if (!headless && !name.equals(DESKTOP)) {
+            System.out.println("Unknown browser.profile: " + name + ", using " + DESKTOP);
+            name = DESKTOP;
+        }
+
+        Dimension window = parseWindow(System.getProperty("browser.window"));
+        if (window == null && headless) {
+            window = DEFAULT_HEADLESS_WINDOW;
+        }
+
+        List<String> extraArgs = new ArrayList<>();
+        String args = System.getProperty("browser.args", "");
+        Arrays.stream(args.split(",")).map(String::trim).filter(arg -> !arg.isEmpty()).forEach(extraArgs::add);
+
+        return new BrowserProfile(name, headless, window, List.copyOf(extraArgs));
+    }
+
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(TUNED_ARGS);
+        if (headless) {
+            options.addArguments("--headless=new", "--disable-gpu");
+        }
+        if (window != null) {
+            // Ukuran window diset saat launch, jadi tidak perlu command resize setelahnya
+            options.addArguments("--window-size=" + window.getWidth() + "," + window.getHeight());
+        }
+        options.addArguments(extraArgs);
+        return options;
+    }
+
+    // Dipanggil sekali setelah browser dibuat
+    public void configureWindow(WebDriver driver) {
+        if (window == null) {
+            driver.manage().window().maximize();
+        }
+    }
+
+    @Override
+    public String toString() {
+        String size = window == null ? "maximized" : window.getWidth() + "x" + window.getHeight();
+        return name + " (" + size + (extraArgs.isEmpty() ? "" : ", " + String.join(" ", extraArgs)) + ")";
+    }
+
+    // Format WIDTHxHEIGHT, null jika kosong/tidak valid
+    private static Dimension parseWindow(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String[] parts = value.trim().toLowerCase().split("x");
+        try {
+            if (parts.length == 2) {
+                return new Dimension(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            }
+        } catch (NumberFormatException e) {
+            // Jatuh ke pesan di bawah
+        }
+        System.out.println("Invalid value for browser.window: " + value + ", expected WIDTHxHEIGHT");
+        return null;
+    }
+}
@@ -0,0 +1,199 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+import java.io.IOException;
+import java.net.HttpCookie;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Setup dan cleanup isi cart lewat endpoint HTTP Demo Web Shop, tanpa lewat UI.
+ * Request dikirim dengan cookie sesi browser, jadi cart yang diubah adalah cart milik browser tersebut.
+ */
+public class CartFixture {
+
+    // Product id di Demo Web Shop
+    public static final int LAPTOP = 31;                 // 14.1-inch Laptop
+    public static final int CHEAP_COMPUTER = 72;         // Build your own cheap computer
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+    private static final Pattern REMOVE_CHECKBOX = Pattern.compile("<input[^>]*name=\"removefromcart\"[^>]*>");
+    private static final Pattern VALUE_ATTRIBUTE = Pattern.compile("value=\"([^\"]*)\"");
+
+    // Redirect tidak diikuti supaya Set-Cookie di setiap response bisa disalin ke browser
+    private static final HttpClient client = HttpClient.newBuilder()
+            .followRedirects(HttpClient.Redirect.NEVER)
+            .connectTimeout(TIMEOUT)
+            .build();
+
+    // Origin tempat browser benar-benar mendarat untuk baseUrl (mis. setelah redirect http -> https), per driver
+    private static final Map<WebDriver, Landing> landings = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private record Landing(String baseUrl, String origin) {
+    }
+
+    private final WebDriver driver;
+    private final String baseUrl;
+
+    public CartFixture(WebDriver driver) {
+        this(driver, TestConfig.getShopBaseUrl());
+    }
+
+    public CartFixture(WebDriver driver, String baseUrl) {
+        this.driver = driver;
+        this.baseUrl = baseUrl;
+    }
+
+    // Tambah produk ke cart (endpoint yang sama dengan tombol "Add to cart" di halaman detail)
+    public void addProduct(int productId, int quantity) {
+        String field = "addtocart_" + productId + ".EnteredQuantity";
+        HttpResponse<String> response = send("/addproducttocart/details/" + productId + "/1", HttpRequest.newBuilder()
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .header("X-Requested-With", "XMLHttpRequest")
+                .POST(HttpRequest.BodyPublishers.ofString(form(field, String.valueOf(quantity)))));
+        if (!response.body().contains("\"success\":true")) {
+            throw new IllegalStateException("Gagal menambah produk " + productId + " ke cart: HTTP "
+                    + response.statusCode() + " " + response.body());
+        }
+    }
+
+    public void addProduct(int productId) {
+        addProduct(productId, 1);
+    }
+
+    // Kosongkan cart: centang semua "removefromcart" lalu submit "updatecart", dalam satu POST
+    public void clear() {
+        List<String> itemIds = getCartItemIds();
+        if (itemIds.isEmpty()) {
+            return;
+        }
+        StringBuilder body = new StringBuilder(form("updatecart", "Update shopping cart"));
+        for (String itemId : itemIds) {
+            body.append('&').append(form("removefromcart", itemId));
+        }
+        send("/cart", HttpRequest.newBuilder()
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+    }
+
+    // Jumlah baris di cart menurut server
+    public int getItemCount() {
+        return getCartItemIds().size();
+    }
+
+    private List<String> getCartItemIds() {
+        String html = send("/cart", HttpRequest.newBuilder().GET()).body();
+        List<String> ids = new ArrayList<>();
+        Matcher checkbox = REMOVE_CHECKBOX.matcher(html);
+        while (checkbox.find()) {
+            Matcher value = VALUE_ATTRIBUTE.matcher(checkbox.group());
+            if (value.find()) {
+                ids.add(value.group(1));
+            }
+        }
+        return ids;
+    }
+
+    private HttpResponse<String> send(String path, HttpRequest.Builder request) {
+        String target = ensureOnShopDomain() + path;
+        request.uri(URI.create(target));
+        // Isi cart di server berubah, halaman yang sedang terbuka tidak lagi mencerminkan state-nya
+        NavigationTracker.invalidate(driver);
+        String cookieHeader = driver.manage().getCookies().stream()
+                .map(cookie -> cookie.getName() + "=" + cookie.getValue())
+                .collect(Collectors.joining("; "));
+        if (!cookieHeader.isEmpty()) {
+            request.header("Cookie", cookieHeader);
+        }
+
+        try {
+            HttpRequest built = request.timeout(TIMEOUT).build();
+            HttpResponse<String> response = client.send(built, HttpResponse.BodyHandlers.ofString());
+            syncCookies(response);
+            // Origin sudah sama dengan browser, jadi GET yang di-redirect berarti halaman cart tidak terbaca.
+            // POST "updatecart" memang dijawab redirect ke /cart (post-redirect-get)
+            if (response.statusCode() / 100 == 3 && built.method().equals("GET")) {
+                throw new IllegalStateException("Request cart fixture " + target + " di-redirect ke "
+                        + response.headers().firstValue("Location").orElse("(tanpa Location)"));
+            }
+            return response;
+        } catch (IOException e) {
+            throw new IllegalStateException("Request cart fixture gagal: " + e.getMessage(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Request cart fixture terputus", e);
+        }
+    }
+
+    // Cookie hanya bisa dibaca/di-set untuk domain yang sedang dibuka browser.
+    // Origin diambil dari URL browser setelah favicon di-load, jadi redirect http -> https atau host lain
+    // ikut dipakai request fixture dan browser tidak perlu dibuka ulang di setiap request
+    private String ensureOnShopDomain() {
+        Landing landing = landings.get(driver);
+        String origin = landing != null && landing.baseUrl().equals(baseUrl) ? landing.origin() : baseUrl;
+        String current = driver.getCurrentUrl();
+        if (current != null && current.startsWith(origin)) {
+            return origin;
+        }
+        driver.get(baseUrl + "/favicon.ico");
+        origin = originOf(driver.getCurrentUrl());
+        landings.put(driver, new Landing(baseUrl, origin));
+        return origin;
+    }
+
+    private String originOf(String landed) {
+        if (landed == null || landed.isEmpty()) {
+            return baseUrl;
+        }
+        if (landed.endsWith("/favicon.ico")) {
+            return landed.substring(0, landed.length() - "/favicon.ico".length());
+        }
+        URI uri = URI.create(landed);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+
+    // Cookie baru dari server (mis. guest customer pertama kali) disalin ke browser
+    private void syncCookies(HttpResponse<String> response) {
+        for (String header : response.headers().allValues("Set-Cookie")) {
+            for (HttpCookie cookie : HttpCookie.parse(header)) {
+                if (cookie.getMaxAge() == 0) {
+                    driver.manage().deleteCookieNamed(cookie.getName());
+                } else {
+                    driver.manage().addCookie(toSeleniumCookie(cookie));
+                }
+            }
+        }
+    }
+
+    // Atribut path, HttpOnly, Secure dan expiry dipertahankan; domain dibiarkan host-only seperti di browser
+    private static Cookie toSeleniumCookie(HttpCookie cookie) {
+        Cookie.Builder builder = new Cookie.Builder(cookie.getName(), cookie.getValue())
+                .path(cookie.getPath() != null ? cookie.getPath() : "/")
+                .isHttpOnly(cookie.isHttpOnly())
+                .isSecure(cookie.getSecure());
+        if (cookie.getMaxAge() > 0) {
+            builder.expiresOn(new Date(System.currentTimeMillis() + cookie.getMaxAge() * 1000));
+        }
+        return builder.build();
+    }
+
+    private static String form(String name, String value) {
+        return URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Menghitung command WebDriver (round-trip ke browser) per test dan per method page object.
+ * Driver dibungkus dengan EventFiringDecorator; hitungan disimpan per thread test.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private static final String PAGES_PACKAGE = "com.praktikum.testing.otomation.pages.";
+    private static final String SUPPORT_PACKAGE = PAGES_PACKAGE + "support.";
+    private static final String OUTSIDE_PAGES = "(test)";
+
+    // Method yang hanya mengembalikan objek lokal, tidak mengirim command ke browser.
+    // Dicocokkan per interface + jumlah argumen: Options.window() lokal, TargetLocator.window(String) tidak
+    private static final Set<LocalMethod> LOCAL_METHODS = Set.of(
+            new LocalMethod(WebDriver.class, "manage", 0),
+            new LocalMethod(WebDriver.class, "navigate", 0),
+            new LocalMethod(WebDriver.class, "switchTo", 0),
+            new LocalMethod(WebDriver.Options.class, "window", 0),
+            new LocalMethod(WebDriver.Options.class, "timeouts", 0),
+            new LocalMethod(WebDriver.Options.class, "logs", 0),
+            new LocalMethod(WrapsDriver.class, "getWrappedDriver", 0),
+            new LocalMethod(WrapsElement.class, "getWrappedElement", 0),
+            new LocalMethod(Object.class, "toString", 0),
+            new LocalMethod(Object.class, "hashCode", 0),
+            new LocalMethod(Object.class, "equals", 1));
+
+    private static final CommandCounter LISTENER = new CommandCounter();
+    private static final ThreadLocal<Counts> current = new ThreadLocal<>();
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private CommandCounter() {
+    }
+
+    // Bungkus driver supaya setiap command tercatat
+    public static WebDriver decorate(WebDriver driver) {
+        return new EventFiringDecorator<>(LISTENER).decorate(driver);
+    }
+
+    // Mulai menghitung untuk test di thread ini
+    public static void startTest() {
+        current.set(new Counts());
+    }
+
+    // Jumlah command test di thread ini sejauh ini, -1 jika tidak sedang dihitung
+    public static int getCommandCount() {
+        Counts counts = current.get();
+        return counts == null ? -1 : counts.total;
+    }
+
+    // Ringkasan per method page object lalu berhenti menghitung
+    public static String endTest() {
+        Counts counts = current.get();
+        current.remove();
+        if (counts == null) {
+            return "";
+        }
+        String perMethod = counts.perMethod.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(e -> e.getKey() + " " + e.getValue())
+                .collect(Collectors.joining(", "));
+        return "WebDriver commands: " + counts.total + (perMethod.isEmpty() ? "" : " (" + perMethod + ")");
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        Counts counts = current.get();
+        if (counts == null || LOCAL_METHODS.contains(LocalMethod.of(method))) {
+            return;
+        }
+        counts.total++;
+        counts.perMethod.merge(callerPageMethod(), 1, Integer::sum);
+    }
+
+    // Method page object terdekat di call stack. BasePage, infrastruktur locator (pages.support)
+    // dan binder hasil generate (*_Locators) dilewati supaya yang tercatat method halaman
+    private static String callerPageMethod() {
+        return stackWalker.walk(frames -> frames
+                .filter(f -> isPageMethod(f.getClassName()))
+                .findFirst()
+                .map(f -> f.getDeclaringClass().getSimpleName() + "." + f.getMethodName())
+                .orElse(OUTSIDE_PAGES));
+    }
+
+    private static boolean isPageMethod(String className) {
+        return className.startsWith(PAGES_PACKAGE)
+                && !className.startsWith(SUPPORT_PACKAGE)
+                && !className.equals(PAGES_PACKAGE + "BasePage")
+                && !className.endsWith("_Locators");
+    }
+
+    private record LocalMethod(Class<?> type, String name, int arity) {
+        static LocalMethod of(Method method) {
+            return new LocalMethod(method.getDeclaringClass(), method.getName(), method.getParameterCount());
+        }
+    }
+
+    private static final class Counts {
+        private int total;
+        private final Map<String, Integer> perMethod = new HashMap<>();
+    }
+}
@@ -0,0 +1,151 @@
+package com.praktikum.testing.otomation.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import io.github.bonigarcia.wdm.config.Config;
+import io.github.bonigarcia.wdm.online.HttpClient;
+import io.github.bonigarcia.wdm.versions.VersionDetector;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Menentukan binary chromedriver sekali per JVM, menggantikan WebDriverManager.setup() di setiap test.
+ * Hasilnya diset ke system property webdriver.chrome.driver, jadi ChromeDriver tidak perlu resolve lagi.
+ *
+ * Urutan: -Dwebdriver.chrome.driver, cache di disk per major version Chrome (-Ddriver.cache.dir),
+ * lalu WebDriverManager (download sekali, lalu disalin ke cache). Dengan -Ddriver.offline=true
+ * langkah terakhir diganti chromedriver di PATH, jadi tidak pernah ada akses network.
+ * Untuk CI tanpa internet, isi cache sekali: {@code <cache>/chrome-<major>/chromedriver}.
+ */
+public class DriverBinaryResolver {
+
+    private static final String DRIVER_PROPERTY = "webdriver.chrome.driver";
+    private static final long DETECTION_TIMEOUT_SECONDS = 10;
+    private static final String BINARY = System.getProperty("os.name", "").toLowerCase().contains("win")
+            ? "chromedriver.exe" : "chromedriver";
+
+    private static String resolved;
+
+    private DriverBinaryResolver() {
+    }
+
+    // Path chromedriver yang dipakai; hanya resolve pada panggilan pertama
+    public static synchronized String resolveChromeDriver() {
+        if (resolved == null) {
+            long start = System.nanoTime();
+            resolved = resolve();
+            System.setProperty(DRIVER_PROPERTY, resolved);
+            System.out.println("Chromedriver: " + resolved + " (resolved in "
+                    + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms)");
+        }
+        return resolved;
+    }
+
+    private static String resolve() {
+        String configured = System.getProperty(DRIVER_PROPERTY);
+        if (configured != null && !configured.isBlank() && Files.isExecutable(Paths.get(configured))) {
+            return configured;
+        }
+
+        Optional<String> majorVersion = detectChromeMajorVersion();
+        Optional<Path> cached = majorVersion.map(DriverBinaryResolver::cachedBinary).filter(Files::isExecutable);
+        if (cached.isPresent()) {
+            return cached.get().toString();
+        }
+
+        if (TestConfig.isDriverOffline()) {
+            Optional<Path> onPath = findOnPath();
+            if (onPath.isPresent()) {
+                return onPath.get().toString();
+            }
+            throw new IllegalStateException("Offline mode (-Ddriver.offline=true): chromedriver untuk Chrome "
+                    + majorVersion.orElse("(versi tidak terdeteksi)") + " tidak ada di cache "
+                    + TestConfig.getDriverCacheDir() + " maupun di PATH");
+        }
+
+        WebDriverManager manager = WebDriverManager.chromedriver();
+        majorVersion.ifPresent(manager::browserVersion);
+        manager.setup();
+        Path downloaded = Paths.get(manager.getDownloadedDriverPath());
+        // Tanpa versi browser, binary tidak bisa diberi key; pakai langsung tanpa disimpan
+        return majorVersion.map(version -> storeInCache(version, downloaded)).orElse(downloaded).toString();
+    }
+
+    private static Path cachedBinary(String majorVersion) {
+        return Paths.get(TestConfig.getDriverCacheDir(), "chrome-" + majorVersion, BINARY);
+    }
+
+    // Salin ke cache lewat file sementara + move, supaya JVM lain tidak membaca file setengah jadi
+    private static Path storeInCache(String majorVersion, Path downloaded) {
+        Path target = cachedBinary(majorVersion);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), BINARY, ".tmp");
+            Files.copy(downloaded, temp, StandardCopyOption.REPLACE_EXISTING);
+            temp.toFile().setExecutable(true);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            return target;
+        } catch (IOException e) {
+            System.out.println("Gagal menyimpan chromedriver ke cache: " + e.getMessage());
+            return downloaded;
+        }
+    }
+
+    // Major version Chrome dari -Ddriver.browserVersion atau deteksi lokal WebDriverManager
+    // (registry/wmic di Windows, "google-chrome --version" di Linux, tanpa network)
+    private static Optional<String> detectChromeMajorVersion() {
+        String configured = System.getProperty("driver.browserVersion");
+        if (configured != null && !configured.isBlank()) {
+            return Optional.of(configured.trim().split("\\.")[0]);
+        }
+        Config config = new Config();
+        // Daftar command deteksi diambil dari jar WebDriverManager, bukan dari GitHub
+        config.setCommandsPropertiesOnlineFirst(false);
+        // Command deteksi dijalankan di thread terpisah supaya proses yang hang tidak menahan resolve
+        CompletableFuture<Optional<String>> detection = CompletableFuture.supplyAsync(() -> {
+            try (HttpClient httpClient = new HttpClient(config)) {
+                return new VersionDetector(config, httpClient).getBrowserVersionFromTheShell("chrome");
+            } catch (IOException e) {
+                return Optional.empty();
+            }
+        });
+        try {
+            return detection.get(DETECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .map(VersionDetector::getMajorVersion)
+                    .filter(major -> !major.isBlank());
+        } catch (TimeoutException e) {
+            detection.cancel(true);
+            System.out.println("Deteksi versi Chrome melebihi " + DETECTION_TIMEOUT_SECONDS
+                    + " detik, cache chromedriver dilewati (set -Ddriver.browserVersion untuk memakainya)");
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Path> findOnPath() {
+        String path = System.getenv("PATH");
+        if (path == null) {
+            return Optional.empty();
+        }
+        for (String dir : path.split(File.pathSeparator)) {
+            Path candidate = Paths.get(dir, BINARY);
+            if (Files.isExecutable(candidate)) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,375 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Pool WebDriver dengan ukuran terbatas
+ * Browser dipinjamkan ke test (lease) dan dibersihkan saat dikembalikan (release),
+ * sehingga startup Chrome tidak terjadi di setiap test method
+ *
+ * Browser cadangan (warm spare) disiapkan di background thread: sejumlah prewarm di awal suite,
+ * lalu sebanyak test yang diperkirakan datang selama satu kali startup Chrome
+ * (rate kedatangan lease x rata-rata waktu startup), selama pool belum penuh.
+ * Browser yang crash/di-evict juga diganti di background, bukan saat test berikutnya lease.
+ */
+public class DriverPool {
+    private static final long LEASE_TIMEOUT_MINUTES = 5;
+    // Selama ada spare yang sedang start, lease menunggu dalam potongan waktu ini lalu cek ulang
+    private static final long WAIT_SLICE_MS = 100;
+    // Bobot sampel baru pada rata-rata jarak antar lease (EWMA)
+    private static final double ARRIVAL_ALPHA = 0.2;
+
+    private final int maxSize;
+    private final Supplier<WebDriver> factory;
+    private final BlockingQueue<WebDriver> idle = new LinkedBlockingQueue<>();
+    private final Set<WebDriver> all = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger warming = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private final ExecutorService warmer = Executors.newCachedThreadPool(r -> {
+        Thread thread = new Thread(r, "driver-warmer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean closed;
+
+    // Rate kedatangan lease, dijaga oleh arrivalLock
+    private final Object arrivalLock = new Object();
+    private long lastLeaseNanos = -1;
+    private double avgInterArrivalNanos = -1;
+
+    // Statistik untuk laporan per-run
+    private final AtomicInteger created = new AtomicInteger();
+    private final AtomicInteger leases = new AtomicInteger();
+    private final AtomicInteger evicted = new AtomicInteger();
+    private final AtomicInteger warmed = new AtomicInteger();
+    private final AtomicLong startupNanos = new AtomicLong();
+    private final AtomicLong leaseWaitNanos = new AtomicLong();
+
+    public DriverPool(int maxSize, Supplier<WebDriver> factory) {
+        this.maxSize = Math.max(1, maxSize);
+        this.factory = factory;
+        Runtime.getRuntime().addShutdownHook(new Thread(this::quitAll, "driver-pool-shutdown"));
+    }
+
+    // Start sejumlah count browser di background (dibatasi ukuran pool), mis. di awal suite
+    public void prewarm(int count) {
+        for (int i = 0; i < count; i++) {
+            if (!spawnSpare()) {
+                return;
+            }
+        }
+    }
+
+    // Pinjam browser: pakai yang idle, tunggu spare yang sedang start,
+    // buat baru jika pool belum penuh, atau tunggu browser dikembalikan
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        leases.incrementAndGet();
+        recordArrival(start);
+        try {
+            WebDriver driver = acquire(start + TimeUnit.MINUTES.toNanos(LEASE_TIMEOUT_MINUTES));
+            replenish(0);
+            return driver;
+        } finally {
+            leaseWaitNanos.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    private WebDriver acquire(long deadline) {
+        while (true) {
+            WebDriver driver = idle.poll();
+            // Spare yang sedang start sudah "dijatah" untuk thread yang menunggu; sisanya boleh buat sendiri
+            if (driver == null && warming.get() <= waiters.get() && tryReserveSlot()) {
+                return create();
+            }
+            if (driver == null) {
+                driver = waitForIdle(deadline);
+                if (driver == null) {
+                    continue;
+                }
+            }
+            if (isHealthy(driver)) {
+                return driver;
+            }
+            evict(driver);
+        }
+    }
+
+    // Kembalikan browser ke pool setelah di-reset; browser yang rusak dibuang
+    public void release(WebDriver driver) {
+        if (driver == null || !all.contains(driver)) {
+            return;
+        }
+        try {
+            reset(driver);
+            idle.offer(driver);
+        } catch (WebDriverException e) {
+            System.out.println("Driver reset failed, evicting: " + e.getMessage());
+            evict(driver);
+            // Pengganti disiapkan sekarang, bukan saat test berikutnya lease
+            replenish(1);
+        }
+    }
+
+    // Tutup semua browser dan tampilkan ringkasan pool
+    public void shutdown() {
+        closed = true;
+        warmer.shutdown();
+        quitAll();
+        System.out.println(getSummary());
+    }
+
+    // Ringkasan: berapa browser dibuat vs dipakai ulang, dan estimasi waktu startup yang dihemat
+    public String getSummary() {
+        int started = created.get();
+        int reused = Math.max(0, leases.get() - started);
+        long avgStartupMs = started == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(startupNanos.get() / started);
+        long avgLeaseWaitMs = leases.get() == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(leaseWaitNanos.get() / leases.get());
+        return "Driver pool: " + started + " browser(s) started (" + warmed.get() + " in background), "
+                + leases.get() + " lease(s), " + reused + " reused, " + evicted.get() + " evicted, avg startup "
+                + avgStartupMs + " ms, avg lease wait " + avgLeaseWaitMs
+                + " ms, estimated startup time saved " + (reused * avgStartupMs) + " ms";
+    }
+
+    // Rata-rata jarak antar lease dengan EWMA, supaya mengikuti perubahan ritme test
+    private void recordArrival(long now) {
+        synchronized (arrivalLock) {
+            if (lastLeaseNanos >= 0) {
+                long interval = now - lastLeaseNanos;
+                avgInterArrivalNanos = avgInterArrivalNanos < 0
+                        ? interval
+                        : ARRIVAL_ALPHA * interval + (1 - ARRIVAL_ALPHA) * avgInterArrivalNanos;
+            }
+            lastLeaseNanos = now;
+        }
+    }
+
+    // Jumlah spare yang dibutuhkan: lease yang diperkirakan datang selama satu kali startup browser
+    int targetSpares() {
+        int started = created.get();
+        double interArrival;
+        synchronized (arrivalLock) {
+            interArrival = avgInterArrivalNanos;
+        }
+        if (started == 0 || interArrival <= 0) {
+            return 0;
+        }
+        double avgStartup = startupNanos.get() / (double) started;
+        return (int) Math.min(maxSize, Math.ceil(avgStartup / interArrival));
+    }
+
+    // Tambah spare di background sampai idle + yang sedang start mencapai target (minimal minimum)
+    private void replenish(int minimum) {
+        int missing = Math.max(minimum, targetSpares()) - idle.size() - warming.get();
+        for (int i = 0; i < missing; i++) {
+            if (!spawnSpare()) {
+                return;
+            }
+        }
+    }
+
+    // false jika pool sudah penuh atau sudah shutdown
+    private boolean spawnSpare() {
+        if (closed || !tryReserveSlot()) {
+            return false;
+        }
+        warming.incrementAndGet();
+        try {
+            warmer.execute(() -> {
+                try {
+                    WebDriver driver = create();
+                    warmed.incrementAndGet();
+                    if (closed) {
+                        // Suite sudah selesai saat browser ini siap
+                        all.remove(driver);
+                        quitQuietly(driver);
+                    } else {
+                        idle.offer(driver);
+                    }
+                } catch (RuntimeException e) {
+                    // Slot sudah dikembalikan oleh create(); lease akan membuat browser sendiri
+                    System.out.println("Warm spare failed to start: " + e.getMessage());
+                } finally {
+                    warming.decrementAndGet();
+                }
+            });
+            return true;
+        } catch (RuntimeException e) {
+            // Executor sudah shutdown
+            warming.decrementAndGet();
+            size.decrementAndGet();
+            return false;
+        }
+    }
+
+    private boolean tryReserveSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private WebDriver create() {
+        long start = System.nanoTime();
+        try {
+            WebDriver driver = factory.get();
+            startupNanos.addAndGet(System.nanoTime() - start);
+            created.incrementAndGet();
+            all.add(driver);
+            return driver;
+        } catch (RuntimeException e) {
+            size.decrementAndGet();
+            throw e;
+        }
+    }
+
+    // Tunggu browser idle; null jika perlu cek ulang (spare gagal start atau ada slot kosong lagi)
+    private WebDriver waitForIdle(long deadline) {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new IllegalStateException("No WebDriver available in pool after " + LEASE_TIMEOUT_MINUTES + " minutes");
+        }
+        waiters.incrementAndGet();
+        try {
+            return idle.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE_MS)), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for WebDriver", e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    // Health check: session yang crash akan melempar exception di command sederhana
+    private boolean isHealthy(WebDriver driver) {
+        try {
+            driver.getWindowHandle();
+            return true;
+        } catch (WebDriverException e) {
+            return false;
+        }
+    }
+
+    // Bersihkan state browser: alert, window/tab, storage, cookies.
+    // Semua tab lama ditutup dan diganti satu tab baru, jadi tab popup yang dibuka test tidak pernah tersisa
+    private void reset(WebDriver driver) {
+        try {
+            driver.switchTo().alert().dismiss();
+        } catch (NoAlertPresentException e) {
+            // Tidak ada alert
+        }
+
+        Set<String> origins = new LinkedHashSet<>();
+        addOrigin(origins, TestConfig.getShopBaseUrl());
+        NavigationTracker.of(driver).landedUrls().forEach(url -> addOrigin(origins, url));
+
+        Set<String> oldHandles = driver.getWindowHandles();
+        String fresh = driver.switchTo().newWindow(WindowType.TAB).getWindowHandle();
+        for (String handle : oldHandles) {
+            driver.switchTo().window(handle);
+            addOrigin(origins, driver.getCurrentUrl());
+            if (!(driver instanceof HasCdp)) {
+                clearStorageWithScript(driver);
+            }
+            driver.close();
+        }
+        driver.switchTo().window(fresh);
+
+        if (driver instanceof HasCdp cdp) {
+            // Storage dihapus per origin lewat CDP, tidak bergantung pada origin halaman yang sedang terbuka
+            for (String origin : origins) {
+                cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of(
+                        "origin", origin,
+                        "storageTypes", "local_storage,indexeddb,websql,cache_storage,service_workers"));
+            }
+            cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+        } else {
+            driver.manage().deleteAllCookies();
+        }
+        NavigationTracker.invalidate(driver);
+    }
+
+    // Tanpa CDP, storage hanya bisa dihapus untuk origin halaman yang sedang terbuka
+    private void clearStorageWithScript(WebDriver driver) {
+        try {
+            ((JavascriptExecutor) driver).executeScript(
+                    "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+        } catch (WebDriverException e) {
+            // Halaman seperti about:blank tidak punya storage
+        }
+    }
+
+    // scheme://host:port dari url http(s); url lain (about:blank, data:) tidak punya storage origin
+    private static void addOrigin(Set<String> origins, String url) {
+        if (url == null || !(url.startsWith("http://") || url.startsWith("https://"))) {
+            return;
+        }
+        try {
+            URI uri = URI.create(url);
+            if (uri.getHost() != null) {
+                origins.add(uri.getScheme() + "://" + uri.getRawAuthority().toLowerCase());
+            }
+        } catch (IllegalArgumentException e) {
+            // URL tidak valid dilewati
+        }
+    }
+
+    private void evict(WebDriver driver) {
+        if (!all.remove(driver)) {
+            return;
+        }
+        evicted.incrementAndGet();
+        size.decrementAndGet();
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Session sudah mati
+        }
+    }
+
+    private void quitQuietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (WebDriverException e) {
+            // Abaikan, browser mungkin sudah tertutup
+        }
+    }
+
+    private void quitAll() {
+        for (WebDriver driver : all) {
+            try {
+                driver.quit();
+            } catch (WebDriverException e) {
+                // Abaikan, browser mungkin sudah tertutup
+            }
+        }
+        all.clear();
+        idle.clear();
+        size.set(0);
+    }
+}
@@ -2,12 +2,34 @@ package com.praktikum.testing.otomation.utils;
 
 import com.aventstack.extentreports.ExtentReports;
 import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.Status;
+import com.aventstack.extentreports.model.Log;
 import com.aventstack.extentreports.reporter.ExtentSparkReporter;
 import com.aventstack.extentreports.reporter.configuration.Theme;
 
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Report Extent yang aman untuk test paralel.
+ * Thread test hanya menambahkan event ke antrian (lock-free); satu flusher thread
+ * menerapkan event ke ExtentReports dan menulis HTML secara berkala selama suite berjalan,
+ * jadi report parsial tetap ada walaupun JVM berhenti di tengah jalan.
+ */
 public class ExtentReportManager {
+    private static final String DEFAULT_REPORT = "test-output/ExtentReport.html";
+
+    private static final Queue<Consumer<ExtentReports>> events = new ConcurrentLinkedQueue<>();
+    private static final Object flushLock = new Object();
+
     private static ExtentReports extent;
-    private static ExtentTest test;
+    private static ScheduledExecutorService flusher;
 
     public static ExtentReports createInstance(String fileName) {
         ExtentSparkReporter sparkReporter = new ExtentSparkReporter(fileName);
@@ -19,6 +41,8 @@ public class ExtentReportManager {
 
         extent = new ExtentReports();
         extent.attachReporter(sparkReporter);
+        // Waktu test diisi dari waktu event diantrikan (lihat ReportNode), bukan waktu flush
+        extent.setReportUsesManualConfiguration(true);
         extent.setSystemInfo("OS", System.getProperty("os.name"));
         extent.setSystemInfo("Java Version", System.getProperty("java.version"));
         extent.setSystemInfo("Selenium Version", "4.15.0");
@@ -29,8 +53,108 @@ public class ExtentReportManager {
 
     public static ExtentReports getInstance() {
         if (extent == null) {
-            createInstance("test-output/ExtentReport.html");
+            createInstance(DEFAULT_REPORT);
         }
         return extent;
     }
-}
\ No newline at end of file
+
+    // Buat report (sekali per JVM) dan mulai flush berkala; aman dipanggil berulang kali
+    public static synchronized void start(String fileName) {
+        if (flusher != null) {
+            return;
+        }
+        createInstance(fileName);
+
+        long interval = TestConfig.getReportFlushIntervalMs();
+        flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "extent-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(ExtentReportManager::flushQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        Runtime.getRuntime().addShutdownHook(new Thread(ExtentReportManager::flushQuietly, "extent-final-flush"));
+    }
+
+    // Node report untuk satu test; hanya event yang dibuat di sini, ExtentTest-nya dibuat oleh flusher
+    public static ReportNode createTest(String name) {
+        ReportNode node = new ReportNode();
+        Date queued = new Date();
+        events.add(report -> {
+            node.target = report.createTest(name);
+            node.target.getModel().setStartTime(queued);
+            node.target.getModel().setEndTime(queued);
+        });
+        return node;
+    }
+
+    public static void setSystemInfo(String key, String value) {
+        events.add(report -> report.setSystemInfo(key, value));
+    }
+
+    // Terapkan semua event yang tertunda lalu tulis HTML
+    public static void flush() {
+        synchronized (flushLock) {
+            if (extent == null) {
+                return;
+            }
+            boolean changed = false;
+            Consumer<ExtentReports> event;
+            while ((event = events.poll()) != null) {
+                event.accept(extent);
+                changed = true;
+            }
+            if (changed) {
+                extent.flush();
+            }
+        }
+    }
+
+    // Flush terakhir di akhir suite; flusher berkala dihentikan
+    public static synchronized void stop() {
+        if (flusher != null) {
+            flusher.shutdown();
+        }
+        flush();
+    }
+
+    private static void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            System.out.println("Gagal flush report: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Pengganti ExtentTest untuk thread test. Setiap method hanya menambah event ke antrian,
+     * jadi tidak ada lock dan tidak ada akses langsung ke model report dari thread test.
+     * Waktu event dicatat saat diantrikan, lalu dipakai untuk timestamp log dan durasi test.
+     */
+    public static final class ReportNode {
+        // Hanya dibaca/ditulis dari dalam event (flusher), urutan dijamin oleh antrian FIFO
+        private ExtentTest target;
+
+        private ReportNode() {
+        }
+
+        public ReportNode log(Status status, String details) {
+            Date queued = new Date();
+            events.add(report -> {
+                target.log(status, details);
+                List<Log> logs = target.getModel().getLogs();
+                logs.get(logs.size() - 1).setTimestamp(queued);
+                target.getModel().setEndTime(queued);
+            });
+            return this;
+        }
+
+        public ReportNode addScreenCaptureFromPath(String path) {
+            Date queued = new Date();
+            events.add(report -> {
+                target.addScreenCaptureFromPath(path);
+                target.getModel().setEndTime(queued);
+            });
+            return this;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mencatat halaman terakhir yang di-load lewat BasePage.navigateTo untuk satu driver.
+ * Semua page object milik driver yang sama berbagi satu tracker, jadi goToHomePage dari page mana pun
+ * tahu bahwa homepage sudah terbuka dan belum disentuh, lalu tidak perlu driver.get lagi.
+ *
+ * Halaman dianggap "kotor" setelah aksi yang bisa mengubah isinya (klik, ketik, isi form)
+ * atau setelah state server/cookie diubah di luar browser (CartFixture, SessionCache, reset pool).
+ *
+ * URL yang diminta bisa berbeda dengan URL tempat browser mendarat (redirect http -> https,
+ * huruf besar host, trailing slash), jadi tracker menyimpan pasangan requested -> landed.
+ */
+public class NavigationTracker {
+
+    // Weak key: tracker ikut hilang saat driver di-evict dari pool
+    private static final Map<WebDriver, NavigationTracker> trackers = Collections.synchronizedMap(new WeakHashMap<>());
+
+    // Redirect per URL tidak berubah selama suite, jadi pasangan ini tidak ikut dihapus oleh invalidate
+    private final Map<String, String> landedUrls = new ConcurrentHashMap<>();
+
+    private volatile String loadedUrl;
+    private volatile boolean dirty = true;
+
+    private NavigationTracker() {
+    }
+
+    public static NavigationTracker of(WebDriver driver) {
+        return trackers.computeIfAbsent(driver, d -> new NavigationTracker());
+    }
+
+    // Tandai halaman driver ini tidak bisa dipakai ulang, tanpa membuat tracker baru
+    public static void invalidate(WebDriver driver) {
+        NavigationTracker tracker = trackers.get(driver);
+        if (tracker != null) {
+            tracker.invalidate();
+        }
+    }
+
+    // Dipanggil setelah driver.get(url) selesai, dengan driver.getCurrentUrl() sebagai landed
+    public void loaded(String url, String landed) {
+        if (landed != null) {
+            landedUrls.put(url, landed);
+        }
+        loadedUrl = url;
+        dirty = false;
+    }
+
+    // URL browser setelah url terakhir kali di-load; url itu sendiri jika belum pernah
+    public String landedUrl(String url) {
+        return landedUrls.getOrDefault(url, url);
+    }
+
+    // Semua URL tempat browser pernah mendarat lewat navigateTo, mis. untuk membersihkan storage per origin
+    public Set<String> landedUrls() {
+        return Set.copyOf(landedUrls.values());
+    }
+
+    // Dipanggil sebelum aksi yang bisa mengubah halaman
+    public void touch() {
+        dirty = true;
+    }
+
+    public void invalidate() {
+        loadedUrl = null;
+        dirty = true;
+    }
+
+    // true jika url terakhir di-load lewat navigateTo dan belum ada aksi sejak itu.
+    // Pemanggil tetap harus cek URL browser terhadap landedUrl(url), karena test bisa berpindah halaman langsung lewat driver
+    public boolean isFresh(String url) {
+        return !dirty && url.equals(loadedUrl);
+    }
+}
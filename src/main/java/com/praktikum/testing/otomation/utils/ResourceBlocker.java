@@ -0,0 +1,46 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Blokir request berdasarkan pola URL lewat Chrome DevTools Protocol (Network.setBlockedURLs).
+ * Pola memakai wildcard '*', mis. "*.png". Aturan berlaku untuk semua navigasi berikutnya di driver itu.
+ *
+ * Karena browser dipakai ulang oleh DriverPool, aturan yang aktif dicatat per driver
+ * dan command CDP hanya dikirim jika aturannya berubah dari test sebelumnya.
+ */
+public class ResourceBlocker {
+
+    private static final Map<WebDriver, List<String>> applied = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private ResourceBlocker() {
+    }
+
+    // Ganti aturan blokir driver ini dengan patterns (list kosong = tidak ada yang diblokir)
+    public static void apply(WebDriver driver, List<String> patterns) {
+        List<String> current = applied.get(driver);
+        if (patterns.equals(current == null ? List.of() : current)) {
+            return;
+        }
+        if (!(driver instanceof HasCdp cdp)) {
+            if (!patterns.isEmpty()) {
+                System.out.println("Browser tidak mendukung CDP, resource tidak diblokir: " + patterns);
+            }
+            return;
+        }
+
+        if (current == null) {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+        }
+        cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+        applied.put(driver, List.copyOf(patterns));
+        // Halaman yang sedang terbuka di-load dengan aturan lama
+        NavigationTracker.invalidate(driver);
+    }
+}
@@ -1,40 +1,111 @@
 package com.praktikum.testing.otomation.utils;
 
-import org.apache.commons.io.FileUtils;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
 
-import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Screenshot diambil sebagai bytes di thread test, lalu ditulis ke disk oleh satu writer thread.
+ * captureScreenshot langsung return path tujuan; panggil awaitPendingWrites sebelum report di-flush.
+ */
 public class ScreenshotUtil {
+
+    // Antrian dibatasi supaya screenshot yang belum tertulis tidak menumpuk di memory;
+    // jika penuh, thread test menunggu sampai ada slot kosong
+    private static final int QUEUE_CAPACITY = 32;
+
+    private static final BlockingQueue<PendingScreenshot> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final Object lock = new Object();
+    private static int pending = 0;
+
+    private record PendingScreenshot(Path target, byte[] png) {
+    }
+
+    static {
+        Thread writer = new Thread(ScreenshotUtil::writeLoop, "screenshot-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
     public static String captureScreenshot(WebDriver driver, String screenshotName) {
         try {
             // Take screenshot
             TakesScreenshot ts = (TakesScreenshot) driver;
-            File source = ts.getScreenshotAs(OutputType.FILE);
+            byte[] png = ts.getScreenshotAs(OutputType.BYTES);
 
             // Create destination path with timestamp
             String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss").format(new Date());
-            String destination = System.getProperty("user.dir") +
-                    "/src/test/resources/screenshots/" +
-                    screenshotName + "_" + timestamp + ".png";
-
-            // Create directory if not exists
-            File destFile = new File(destination);
-            destFile.getParentFile().mkdirs();
+            Path destination = Paths.get(System.getProperty("user.dir"),
+                    "src", "test", "resources", "screenshots",
+                    screenshotName + "_" + timestamp + ".png");
 
-            // Copy file to destination
-            FileUtils.copyFile(source, destFile);
-
-            System.out.println("Screenshot saved: " + destination);
-            return destination;
+            synchronized (lock) {
+                pending++;
+            }
+            queue.put(new PendingScreenshot(destination, png));
+            return destination.toString();
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            markWritten();
+            System.out.println("Failed to capture screenshot: interrupted");
+            return null;
         } catch (Exception e) {
             System.out.println("Failed to capture screenshot: " + e.getMessage());
             return null;
         }
     }
-}
\ No newline at end of file
+
+    // Tunggu sampai semua screenshot di antrian sudah tertulis; false jika timeout
+    public static boolean awaitPendingWrites(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        synchronized (lock) {
+            while (pending > 0) {
+                long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remainingMs <= 0) {
+                    return false;
+                }
+                lock.wait(remainingMs);
+            }
+            return true;
+        }
+    }
+
+    private static void writeLoop() {
+        while (true) {
+            PendingScreenshot screenshot;
+            try {
+                screenshot = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                // Create directory if not exists
+                Files.createDirectories(screenshot.target().getParent());
+                Files.write(screenshot.target(), screenshot.png());
+                System.out.println("Screenshot saved: " + screenshot.target());
+            } catch (IOException e) {
+                System.out.println("Failed to save screenshot " + screenshot.target() + ": " + e.getMessage());
+            } finally {
+                markWritten();
+            }
+        }
+    }
+
+    private static void markWritten() {
+        synchronized (lock) {
+            pending--;
+            lock.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.praktikum.testing.otomation.utils;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache cookie sesi login per akun, supaya login lewat form cukup sekali per suite.
+ * Driver berikutnya tinggal di-inject cookie-nya dan langsung dalam kondisi login.
+ */
+public class SessionCache {
+
+    private static final Map<String, Set<Cookie>> sessions = new ConcurrentHashMap<>();
+
+    private SessionCache() {
+    }
+
+    // Simpan semua cookie driver saat ini sebagai sesi milik akun tersebut
+    public static void save(WebDriver driver, String baseUrl, String account) {
+        sessions.put(key(baseUrl, account), Set.copyOf(driver.manage().getCookies()));
+    }
+
+    // Inject cookie sesi ke driver; false jika belum ada sesi atau sudah kadaluarsa
+    public static boolean restore(WebDriver driver, String baseUrl, String account) {
+        Set<Cookie> cookies = sessions.get(key(baseUrl, account));
+        if (cookies == null) {
+            return false;
+        }
+        Date now = new Date();
+        for (Cookie cookie : cookies) {
+            if (cookie.getExpiry() != null && cookie.getExpiry().before(now)) {
+                invalidate(baseUrl, account);
+                return false;
+            }
+        }
+
+        // Cookie hanya bisa di-set untuk domain yang sedang dibuka; favicon adalah halaman termurah
+        driver.get(baseUrl + "/favicon.ico");
+        for (Cookie cookie : cookies) {
+            driver.manage().addCookie(cookie);
+        }
+        NavigationTracker.invalidate(driver);
+        return true;
+    }
+
+    // Hapus sesi, mis. jika server sudah tidak mengenali cookie-nya
+    public static void invalidate(String baseUrl, String account) {
+        sessions.remove(key(baseUrl, account));
+    }
+
+    private static String key(String baseUrl, String account) {
+        return baseUrl + "|" + account;
+    }
+}
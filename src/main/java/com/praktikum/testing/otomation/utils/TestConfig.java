@@ -0,0 +1,142 @@
+package com.praktikum.testing.otomation.utils;
+
+import com.praktikum.testing.otomation.stub.DemoWebShopServer;
+import com.praktikum.testing.otomation.stub.TheInternetServer;
+
+import java.nio.file.Paths;
+
+/**
+ * Konfigurasi eksekusi test yang dibaca dari system properties
+ * Contoh: mvn test -Dtest.parallel=methods -Dtest.threadCount=16
+ */
+public class TestConfig {
+    public static final String DEFAULT_SHOP_URL = "http://demowebshop.tricentis.com";
+    public static final String DEFAULT_INTERNET_URL = "https://the-internet.herokuapp.com";
+
+    // Mode parallel TestNG: none / false, methods, classes, tests
+    public static String getParallelMode() {
+        String mode = System.getProperty("test.parallel", "").trim().toLowerCase();
+        if (mode.isEmpty() || mode.equals("false")) {
+            return "none";
+        }
+        return mode;
+    }
+
+    // Jumlah thread untuk eksekusi parallel (default: jumlah core CPU)
+    public static int getThreadCount() {
+        return getInt("test.threadCount", Runtime.getRuntime().availableProcessors());
+    }
+
+    public static boolean isParallel() {
+        return !getParallelMode().equals("none");
+    }
+
+    // Jumlah maksimum browser di DriverPool (default: satu per thread test)
+    public static int getDriverPoolSize() {
+        return getInt("driver.pool.size", isParallel() ? getThreadCount() : 1);
+    }
+
+    // Jumlah browser yang di-start di background saat suite mulai, -Ddriver.pool.warm (default: ukuran pool)
+    public static int getDriverPoolWarm() {
+        return getInt("driver.pool.warm", getDriverPoolSize());
+    }
+
+    // Interval flush report ke HTML selama suite berjalan (ms), -Dreport.flushIntervalMs
+    public static int getReportFlushIntervalMs() {
+        return getInt("report.flushIntervalMs", 5000);
+    }
+
+    // Batas jumlah command WebDriver per test, -Dcommand.budget (0 = tanpa batas)
+    public static int getCommandBudget() {
+        return getInt("command.budget", 0);
+    }
+
+    // -Dcommand.budget.mode=fail membuat test gagal jika melewati budget; default hanya warning
+    public static boolean isCommandBudgetStrict() {
+        return "fail".equalsIgnoreCase(System.getProperty("command.budget.mode", "warn").trim());
+    }
+
+    // -Dform.fastFill=true: page object mengisi form dengan satu script, bukan keystroke per field
+    public static boolean isFastFill() {
+        return Boolean.getBoolean("form.fastFill");
+    }
+
+    // Shard yang dijalankan JVM ini, -Dshard.index=0..shard.total-1
+    public static int getShardIndex() {
+        return getInt("shard.index", 0);
+    }
+
+    // Jumlah shard, -Dshard.total (1 = tanpa sharding)
+    public static int getShardTotal() {
+        return getInt("shard.total", 1);
+    }
+
+    // File riwayat durasi/hasil test (sharding dan urutan longest-first), -Dtest.history.file
+    public static String getTestHistoryFile() {
+        String file = System.getProperty("test.history.file");
+        return file == null || file.isBlank() ? "test-history/test-runs.tsv" : file.trim();
+    }
+
+    // -Ddriver.offline=true: chromedriver hanya dari cache/PATH, tanpa akses network (CI air-gapped)
+    public static boolean isDriverOffline() {
+        return Boolean.getBoolean("driver.offline");
+    }
+
+    // Folder cache chromedriver per versi Chrome, -Ddriver.cache.dir
+    public static String getDriverCacheDir() {
+        String dir = System.getProperty("driver.cache.dir");
+        if (dir != null && !dir.isBlank()) {
+            return dir.trim();
+        }
+        return Paths.get(System.getProperty("user.home"), ".cache", "otomation-testing", "drivers").toString();
+    }
+
+    // true jika test memakai stand-in lokal (-Dsites.local=true) alih-alih situs publik
+    public static boolean isLocalSites() {
+        return Boolean.getBoolean("sites.local");
+    }
+
+    // Base URL Demo Web Shop tanpa slash di akhir
+    // Urutan: -Dshop.baseUrl, stand-in lokal (-Dsites.local=true), lalu situs publik
+    public static String getShopBaseUrl() {
+        String url = System.getProperty("shop.baseUrl");
+        if (url != null && !url.isBlank()) {
+            return stripTrailingSlash(url.trim());
+        }
+        if (isLocalSites()) {
+            return DemoWebShopServer.shared().getBaseUrl();
+        }
+        return DEFAULT_SHOP_URL;
+    }
+
+    // Base URL the-internet (demo tests) tanpa slash di akhir
+    // Urutan: -Dinternet.baseUrl, stand-in lokal (-Dsites.local=true), lalu situs publik
+    public static String getInternetBaseUrl() {
+        String url = System.getProperty("internet.baseUrl");
+        if (url != null && !url.isBlank()) {
+            return stripTrailingSlash(url.trim());
+        }
+        if (isLocalSites()) {
+            return TheInternetServer.shared().getBaseUrl();
+        }
+        return DEFAULT_INTERNET_URL;
+    }
+
+    static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    // Helper untuk membaca property angka dengan fallback default
+    static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid value for " + key + ": " + value + ", using " + defaultValue);
+            return defaultValue;
+        }
+    }
+}
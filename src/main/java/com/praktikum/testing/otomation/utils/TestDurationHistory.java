@@ -0,0 +1,161 @@
+package com.praktikum.testing.otomation.utils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Riwayat run test method di disk (-Dtest.history.file), dipakai untuk sharding dan urutan longest-first.
+ * Setiap baris file adalah satu run satu method: key, id run, durasi (ms) dan hasil (PASS/FAIL/SKIP),
+ * dipisah tab. Key: nama class lengkap + "#" + nama method. Hanya MAX_RUNS run terakhir per method disimpan.
+ *
+ * File ditulis ulang di akhir suite dengan data lama + hasil run ini, jadi method yang
+ * tidak dijalankan (mis. ada di shard lain) tetap tersimpan.
+ */
+public class TestDurationHistory {
+
+    public enum Outcome {
+        PASS, FAIL, SKIP
+    }
+
+    public record Run(String runId, long durationMs, Outcome outcome) {
+    }
+
+    private static final int MAX_RUNS = 20;
+    // Bobot run terbaru pada rata-rata, supaya perubahan durasi cepat terlihat tanpa bergantung satu run
+    private static final double ALPHA = 0.5;
+    // Durasi untuk method tanpa riwayat jika belum ada data sama sekali
+    private static final long DEFAULT_DURATION_MS = 10_000;
+
+    private final Path file;
+    private final String runId = String.valueOf(System.currentTimeMillis());
+    private final Map<String, Deque<Run>> runs = new TreeMap<>();
+
+    private TestDurationHistory(Path file) {
+        this.file = file;
+    }
+
+    // Baca riwayat dari file di TestConfig; file yang belum ada berarti riwayat kosong
+    public static TestDurationHistory load() {
+        return load(Paths.get(TestConfig.getTestHistoryFile()));
+    }
+
+    public static TestDurationHistory load(Path file) {
+        TestDurationHistory history = new TestDurationHistory(file);
+        if (!Files.exists(file)) {
+            return history;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] columns = line.split("\t");
+                if (line.startsWith("#") || columns.length != 4) {
+                    continue;
+                }
+                try {
+                    history.add(columns[0], new Run(columns[1], Long.parseLong(columns[2]), Outcome.valueOf(columns[3])));
+                } catch (IllegalArgumentException e) {
+                    // Baris rusak dilewati
+                }
+            }
+        } catch (IOException e) {
+            System.out.println("Gagal membaca riwayat test " + file + ": " + e.getMessage());
+        }
+        return history;
+    }
+
+    public static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    // Catat hasil method ini untuk run yang sedang berjalan
+    public synchronized void record(String key, long durationMs, Outcome outcome) {
+        add(key, new Run(runId, durationMs, outcome));
+    }
+
+    // Run tersimpan untuk method ini, dari yang terlama
+    public synchronized List<Run> getRuns(String key) {
+        Deque<Run> history = runs.get(key);
+        return history == null ? List.of() : List.copyOf(history);
+    }
+
+    // Durasi perkiraan (EWMA dari run yang tidak di-skip); method baru memakai median semua method
+    public synchronized long estimate(String key) {
+        Long known = average(runs.get(key));
+        return known != null ? known : medianDuration();
+    }
+
+    public synchronized boolean isEmpty() {
+        return runs.isEmpty();
+    }
+
+    // Tulis lewat file sementara + move, supaya file tidak setengah jadi jika JVM berhenti
+    public synchronized void save() {
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                writer.write("# method\trun\tdurationMs\toutcome - lihat TestDurationHistory\n");
+                for (Map.Entry<String, Deque<Run>> entry : runs.entrySet()) {
+                    for (Run run : entry.getValue()) {
+                        writer.write(entry.getKey() + "\t" + run.runId() + "\t" + run.durationMs() + "\t" + run.outcome() + "\n");
+                    }
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.out.println("Gagal menyimpan riwayat test " + file + ": " + e.getMessage());
+        }
+    }
+
+    private void add(String key, Run run) {
+        Deque<Run> history = runs.computeIfAbsent(key, k -> new ArrayDeque<>());
+        history.addLast(run);
+        while (history.size() > MAX_RUNS) {
+            history.removeFirst();
+        }
+    }
+
+    // Durasi skip tidak mewakili waktu jalan sebenarnya; null jika tidak ada run yang dihitung
+    private static Long average(Deque<Run> history) {
+        if (history == null) {
+            return null;
+        }
+        Double average = null;
+        for (Run run : history) {
+            if (run.outcome() == Outcome.SKIP) {
+                continue;
+            }
+            average = average == null ? run.durationMs() : ALPHA * run.durationMs() + (1 - ALPHA) * average;
+        }
+        return average == null ? null : Math.round(average);
+    }
+
+    private long medianDuration() {
+        List<Long> values = new ArrayList<>();
+        for (Deque<Run> history : runs.values()) {
+            Long average = average(history);
+            if (average != null) {
+                values.add(average);
+            }
+        }
+        if (values.isEmpty()) {
+            return DEFAULT_DURATION_MS;
+        }
+        Collections.sort(values);
+        return values.get(values.size() / 2);
+    }
+}
@@ -1,11 +1,17 @@
 package com.praktikum.testing.otomation.test;
 
-import com.aventstack.extentreports.ExtentReports;
-import com.aventstack.extentreports.ExtentTest;
 import com.aventstack.extentreports.Status;
+import com.praktikum.testing.otomation.pages.PageRegistry;
+import com.praktikum.testing.otomation.utils.ActionMetrics;
+import com.praktikum.testing.otomation.utils.BrowserProfile;
+import com.praktikum.testing.otomation.utils.CommandCounter;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.DriverPool;
 import com.praktikum.testing.otomation.utils.ExtentReportManager;
+import com.praktikum.testing.otomation.utils.ExtentReportManager.ReportNode;
+import com.praktikum.testing.otomation.utils.ResourceBlocker;
 import com.praktikum.testing.otomation.utils.ScreenshotUtil;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.ITestResult;
@@ -15,62 +21,162 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.BeforeSuite;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Base class untuk semua test Demo Web Shop
+ * Driver dan node report disimpan per thread (ThreadLocal) supaya aman
+ * dijalankan dengan parallel="methods" atau parallel="classes".
+ * Browser dipinjam dari DriverPool, bukan dibuat ulang setiap test
+ */
 public class BaseTest {
-    protected WebDriver driver;
-    protected static ExtentReports extent;
-    protected ExtentTest test;
+    private static final BrowserProfile browserProfile = BrowserProfile.fromConfig();
+    private static final DriverPool driverPool = new DriverPool(TestConfig.getDriverPoolSize(), BaseTest::createDriver);
+    private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<ReportNode> test = new ThreadLocal<>();
+    // Tidak di-remove di tearDown: jika thread mendapat browser yang sama lagi, page object dipakai ulang
+    private static final ThreadLocal<PageRegistry> pages = new ThreadLocal<>();
+
+    // Driver milik thread yang sedang menjalankan test
+    protected WebDriver getDriver() {
+        return driver.get();
+    }
+
+    // Node report milik thread yang sedang menjalankan test
+    protected ReportNode getTest() {
+        return test.get();
+    }
+
+    // Page object untuk driver milik thread ini, dibuat saat pertama kali dipakai
+    protected PageRegistry pages() {
+        WebDriver webDriver = getDriver();
+        PageRegistry registry = pages.get();
+        if (registry == null || registry.getDriver() != webDriver) {
+            registry = new PageRegistry(webDriver);
+            pages.set(registry);
+        }
+        return registry;
+    }
+
+    // Factory untuk DriverPool: hanya dipanggil saat pool perlu browser baru
+    private static WebDriver createDriver() {
+        // Binary chromedriver hanya di-resolve pada panggilan pertama (cache di disk, lihat DriverBinaryResolver)
+        DriverBinaryResolver.resolveChromeDriver();
+        // Headless/flag/viewport sesuai -Dbrowser.profile (lihat BrowserProfile)
+        WebDriver webDriver = new ChromeDriver(browserProfile.toChromeOptions());
+        browserProfile.configureWindow(webDriver);
+        // Setiap command dihitung per test (lihat CommandCounter / -Dcommand.budget)
+        return CommandCounter.decorate(webDriver);
+    }
+
+    // Pola URL dari @BlockResources; annotation di method menggantikan annotation di class
+    private List<String> blockedResources(Method method) {
+        BlockResources annotation = method.getAnnotation(BlockResources.class);
+        if (annotation == null) {
+            annotation = getClass().getAnnotation(BlockResources.class);
+        }
+        List<String> patterns = new ArrayList<>();
+        if (annotation != null) {
+            for (BlockResources.Resource resource : annotation.value()) {
+                patterns.addAll(resource.patterns());
+            }
+            patterns.addAll(List.of(annotation.urls()));
+        }
+        return patterns;
+    }
 
     @BeforeSuite
     public void setUpSuite() {
-        extent = ExtentReportManager.createInstance("test-output/ExtentReport.html");
+        ExtentReportManager.start("test-output/ExtentReport.html");
+        ExtentReportManager.setSystemInfo("Browser Profile", browserProfile.toString());
+        // Browser pertama di-start di background, selagi TestNG menyiapkan test lainnya
+        driverPool.prewarm(TestConfig.getDriverPoolWarm());
         System.out.println("=== TEST SUITE STARTED ===\n");
     }
 
     @BeforeMethod
     public void setUp(Method method) {
-        // Setup WebDriver
-        WebDriverManager.chromedriver().setup();
-        driver = new ChromeDriver();
-        driver.manage().window().maximize();
+        // Pinjam WebDriver dari pool
+        driver.set(driverPool.lease());
+        // Sebelum CommandCounter.startTest: command CDP-nya bukan bagian dari test
+        List<String> blocked = blockedResources(method);
+        ResourceBlocker.apply(getDriver(), blocked);
+
+        // Page object dipakai ulang antar test; override dari test sebelumnya tidak boleh terbawa
+        PageRegistry registry = pages.get();
+        if (registry != null) {
+            registry.resetOverrides();
+        }
+
+        ActionMetrics.startTest();
+        CommandCounter.startTest();
 
         // Create test in report
-        test = extent.createTest(method.getName());
-        test.log(Status.INFO, "Test started: " + method.getName());
-        test.log(Status.INFO, "Browser launched: Chrome");
+        ReportNode extentTest = ExtentReportManager.createTest(method.getName());
+        test.set(extentTest);
+        extentTest.log(Status.INFO, "Test started: " + method.getName());
+        extentTest.log(Status.INFO, "Browser leased: Chrome " + browserProfile + " (" + Thread.currentThread().getName() + ")");
+        if (!blocked.isEmpty()) {
+            extentTest.log(Status.INFO, "Resource diblokir: " + String.join(" ", blocked));
+        }
     }
 
     @AfterMethod
     public void tearDown(ITestResult result) {
+        WebDriver webDriver = getDriver();
+        ReportNode extentTest = getTest();
+        // Ambil hitungan sebelum screenshot/reset pool supaya hanya command dari test yang terhitung
+        String commandSummary = CommandCounter.endTest();
+
         // Log test result
         if (result.getStatus() == ITestResult.FAILURE) {
-            test.log(Status.FAIL, "Test Failed: " + result.getThrowable());
+            extentTest.log(Status.FAIL, "Test Failed: " + result.getThrowable());
 
             // Capture screenshot on failure
-            String screenshotPath = ScreenshotUtil.captureScreenshot(driver, result.getMethod().getMethodName() + "_FAILED");
+            String screenshotPath = ScreenshotUtil.captureScreenshot(webDriver, result.getMethod().getMethodName() + "_FAILED");
 
             if (screenshotPath != null) {
-                test.addScreenCaptureFromPath(screenshotPath);
+                extentTest.addScreenCaptureFromPath(screenshotPath);
             }
         } else if (result.getStatus() == ITestResult.SKIP) {
-            test.log(Status.SKIP, "Test Skipped: " + result.getThrowable());
+            extentTest.log(Status.SKIP, "Test Skipped: " + result.getThrowable());
         } else {
-            test.log(Status.PASS, "Test Passed");
+            extentTest.log(Status.PASS, "Test Passed");
+        }
+
+        // Jumlah command WebDriver dan latency aksi page object selama test ini
+        extentTest.log(Status.INFO, commandSummary);
+        Object budgetWarning = result.getAttribute(CommandBudgetListener.WARNING_ATTRIBUTE);
+        if (budgetWarning != null) {
+            extentTest.log(Status.WARNING, budgetWarning.toString());
         }
+        extentTest.log(Status.INFO, "<pre>" + ActionMetrics.endTest() + "</pre>");
 
-        // Quit browser
-        if (driver != null) {
-            driver.quit();
-            test.log(Status.INFO, "Browser closed");
+        // Kembalikan browser ke pool (di-reset, bukan di-quit)
+        if (webDriver != null) {
+            driverPool.release(webDriver);
+            extentTest.log(Status.INFO, "Browser returned to pool");
         }
+
+        // Bersihkan ThreadLocal agar thread pool tidak memakai driver lama
+        driver.remove();
+        test.remove();
     }
 
     @AfterSuite
-    public void tearDownSuite() {
-        if (extent != null) {
-            extent.flush();
+    public void tearDownSuite() throws InterruptedException {
+        driverPool.shutdown();
+
+        // Screenshot ditulis di background, pastikan sudah ada di disk sebelum report di-flush
+        if (!ScreenshotUtil.awaitPendingWrites(30, TimeUnit.SECONDS)) {
+            System.out.println("Sebagian screenshot belum selesai ditulis");
         }
+        ExtentReportManager.setSystemInfo("Driver Pool", driverPool.getSummary());
+        System.out.println("\n=== PAGE ACTION LATENCY ===\n" + ActionMetrics.getSuiteSummary());
+        ExtentReportManager.stop();
         System.out.println("\n=== TEST SUITE COMPLETED ===");
         System.out.println("Report generated: test-output/ExtentReport.html\n");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,39 @@
+package com.praktikum.testing.otomation.test;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+
+/**
+ * Resource yang diblokir browser selama test (lihat ResourceBlocker), dipasang oleh BaseTest.setUp.
+ * Di class: berlaku untuk semua test di class itu. Di method: menggantikan aturan class,
+ * jadi {@code @BlockResources} tanpa isi pada method berarti tidak ada yang diblokir untuk test itu.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.TYPE, ElementType.METHOD})
+public @interface BlockResources {
+
+    Resource[] value() default {};
+
+    // Pola URL tambahan dengan wildcard '*', mis. "*google-analytics.com*"
+    String[] urls() default {};
+
+    enum Resource {
+        // favicon.ico sengaja tidak diblokir: dipakai SessionCache/CartFixture untuk membuka domain shop
+        IMAGES("*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.svg"),
+        FONTS("*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot"),
+        MEDIA("*.mp4", "*.webm", "*.mp3", "*.ogg");
+
+        private final String[] patterns;
+
+        Resource(String... patterns) {
+            this.patterns = patterns;
+        }
+
+        public List<String> patterns() {
+            return List.of(patterns);
+        }
+    }
+}
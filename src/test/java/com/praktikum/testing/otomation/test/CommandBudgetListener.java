@@ -0,0 +1,39 @@
+package com.praktikum.testing.otomation.test;
+
+import com.praktikum.testing.otomation.utils.CommandCounter;
+import com.praktikum.testing.otomation.utils.TestConfig;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Cek budget command WebDriver (-Dcommand.budget=N) tepat setelah method test selesai,
+ * sebelum @AfterMethod. Mode warn hanya mencetak peringatan, mode fail menggagalkan test.
+ */
+public class CommandBudgetListener implements IInvokedMethodListener {
+
+    // Pesan warning disimpan di result supaya BaseTest bisa menulisnya ke report
+    static final String WARNING_ATTRIBUTE = "commandBudgetWarning";
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        int budget = TestConfig.getCommandBudget();
+        if (budget <= 0 || !method.isTestMethod()) {
+            return;
+        }
+        int commands = CommandCounter.getCommandCount();
+        if (commands <= budget) {
+            return;
+        }
+
+        String message = testResult.getMethod().getMethodName() + " memakai " + commands
+                + " WebDriver commands, melebihi budget " + budget;
+        if (TestConfig.isCommandBudgetStrict() && testResult.getStatus() == ITestResult.SUCCESS) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError(message));
+        } else {
+            testResult.setAttribute(WARNING_ATTRIBUTE, message);
+            System.out.println("WARNING: " + message);
+        }
+    }
+}
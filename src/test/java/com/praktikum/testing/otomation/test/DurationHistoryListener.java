@@ -0,0 +1,53 @@
+package com.praktikum.testing.otomation.test;
+
+import com.praktikum.testing.otomation.utils.TestDurationHistory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+/**
+ * Mencatat durasi dan hasil setiap test method ke TestDurationHistory dan menyimpannya di akhir suite.
+ * Test yang di-skip tetap dicatat hasilnya, tapi tidak dihitung di perkiraan durasi.
+ */
+public class DurationHistoryListener implements ITestListener, ISuiteListener {
+
+    // Static supaya tetap satu riwayat walaupun TestNG membuat instance terpisah per peran listener
+    private static TestDurationHistory history;
+
+    @Override
+    public void onStart(ISuite suite) {
+        history();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, TestDurationHistory.Outcome.PASS);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, TestDurationHistory.Outcome.FAIL);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, TestDurationHistory.Outcome.SKIP);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history().save();
+    }
+
+    private void record(ITestResult result, TestDurationHistory.Outcome outcome) {
+        history().record(ShardingInterceptor.key(result.getMethod()), result.getEndMillis() - result.getStartMillis(), outcome);
+    }
+
+    private static synchronized TestDurationHistory history() {
+        if (history == null) {
+            history = TestDurationHistory.load();
+        }
+        return history;
+    }
+}
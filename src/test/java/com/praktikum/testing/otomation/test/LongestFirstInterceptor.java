@@ -0,0 +1,45 @@
+package com.praktikum.testing.otomation.test;
+
+import com.praktikum.testing.otomation.utils.TestConfig;
+import com.praktikum.testing.otomation.utils.TestDurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Saat suite berjalan parallel, test terlama (menurut TestDurationHistory) dijalankan lebih dulu,
+ * supaya di akhir run tidak ada satu test panjang yang berjalan sendirian sementara thread lain menganggur.
+ * Dalam mode parallel urutan ini menggantikan priority (test memang harus independen di mode ini);
+ * tanpa parallel urutan tidak diubah, jadi priority di test class tetap berlaku seperti biasa.
+ */
+public class LongestFirstInterceptor implements IMethodInterceptor {
+
+    private static TestDurationHistory history;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!TestConfig.isParallel()) {
+            return methods;
+        }
+        TestDurationHistory durations = history();
+        if (durations.isEmpty()) {
+            return methods;
+        }
+        // Sort stabil: method dengan perkiraan sama tetap di urutan aslinya
+        return methods.stream()
+                .sorted(Comparator.comparingLong((IMethodInstance instance) ->
+                        durations.estimate(ShardingInterceptor.key(instance.getMethod()))).reversed())
+                .toList();
+    }
+
+    // Dibaca sekali per JVM; intercept dipanggil untuk setiap <test> di testng.xml
+    private static synchronized TestDurationHistory history() {
+        if (history == null) {
+            history = TestDurationHistory.load();
+        }
+        return history;
+    }
+}
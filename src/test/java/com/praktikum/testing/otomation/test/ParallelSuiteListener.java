@@ -0,0 +1,51 @@
+package com.praktikum.testing.otomation.test;
+
+import com.praktikum.testing.otomation.utils.TestConfig;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.List;
+
+/**
+ * Listener untuk mengatur mode parallel suite dari system properties
+ * -Dtest.parallel=methods|classes|tests dan -Dtest.threadCount=N
+ * Tanpa property, setting di testng.xml tetap dipakai.
+ * Hanya &lt;test&gt; berisi class turunan BaseTest (driver ThreadLocal) yang dijalankan parallel
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (System.getProperty("test.parallel") == null) {
+            return;
+        }
+
+        XmlSuite.ParallelMode mode = XmlSuite.ParallelMode.getValidParallel(TestConfig.getParallelMode());
+        int threadCount = TestConfig.getThreadCount();
+
+        for (XmlSuite suite : suites) {
+            suite.setParallel(mode);
+            suite.setThreadCount(threadCount);
+            System.out.println("Suite '" + suite.getName() + "' parallel=" + mode + ", thread-count=" + threadCount);
+
+            // Class demo menyimpan driver di field instance, jadi hanya aman dijalankan sequential
+            for (XmlTest test : suite.getTests()) {
+                if (!allClassesUseBaseTest(test)) {
+                    test.setParallel(XmlSuite.ParallelMode.NONE);
+                    System.out.println("Test '" + test.getName() + "' tetap sequential (bukan BaseTest)");
+                }
+            }
+        }
+    }
+
+    private boolean allClassesUseBaseTest(XmlTest test) {
+        for (XmlClass xmlClass : test.getXmlClasses()) {
+            if (!BaseTest.class.isAssignableFrom(xmlClass.getSupportClass())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -11,89 +11,90 @@ import org.testng.annotations.Test;
  * Test class untuk feature Product Search (6 test cases)
  * Updated: Menambahkan Alert Handling pada testSearchWithEmptyQuery
  */
+@BlockResources(BlockResources.Resource.IMAGES)
 public class ProductSearchTest extends BaseTest {
 
     @Test(priority = 1, description = "Test search dengan keyword valid")
     public void testSearchWithValidKeyword() {
-        test.log(Status.INFO, "Memulai test search dengan keyword valid");
+        getTest().log(Status.INFO, "Memulai test search dengan keyword valid");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
-        test.log(Status.INFO, "Buka halaman home");
+        getTest().log(Status.INFO, "Buka halaman home");
 
         // Search produk komputer
         homePage.search("computer");
-        test.log(Status.INFO, "Search keyword: computer");
+        getTest().log(Status.INFO, "Search keyword: computer");
 
         // Verifikasi ada hasil
         int resultCount = homePage.getSearchResultCount();
         Assert.assertTrue(resultCount > 0, "Harus ada hasil search");
 
-        test.log(Status.PASS, "Search berhasil - ditemukan " + resultCount + " produk");
+        getTest().log(Status.PASS, "Search berhasil - ditemukan " + resultCount + " produk");
     }
 
     @Test(priority = 2, description = "Test search dengan keyword invalid")
     public void testSearchWithInvalidKeyword() {
-        test.log(Status.INFO, "Memulai test search dengan keyword invalid");
+        getTest().log(Status.INFO, "Memulai test search dengan keyword invalid");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
 
         // Search dengan keyword yang tidak ada
         String invalidKeyword = "xyzabc123invalid";
         homePage.search(invalidKeyword);
-        test.log(Status.INFO, "Search keyword: " + invalidKeyword);
+        getTest().log(Status.INFO, "Search keyword: " + invalidKeyword);
 
         // Verifikasi tidak ada hasil
         String message = homePage.getSearchMessage();
         boolean isNoResult = message.contains("No products") || message.isEmpty();
 
         Assert.assertTrue(isNoResult, "Harus ada pesan no products atau kosong");
-        test.log(Status.PASS, "Search invalid - tidak ada hasil yang ditemukan");
+        getTest().log(Status.PASS, "Search invalid - tidak ada hasil yang ditemukan");
     }
 
     @Test(priority = 3, description = "Test search dengan query kosong")
     public void testSearchWithEmptyQuery() {
-        test.log(Status.INFO, "Memulai test search dengan query kosong");
+        getTest().log(Status.INFO, "Memulai test search dengan query kosong");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
 
         // Search dengan string kosong
         homePage.search("");
-        test.log(Status.INFO, "Search dengan query kosong");
+        getTest().log(Status.INFO, "Search dengan query kosong");
 
         // PERBAIKAN: Menangani Browser Alert "Please enter some search keyword"
         try {
             // Coba switch ke alert
-            Alert alert = driver.switchTo().alert();
+            Alert alert = getDriver().switchTo().alert();
             String alertText = alert.getText();
-            test.log(Status.INFO, "Alert muncul: " + alertText);
+            getTest().log(Status.INFO, "Alert muncul: " + alertText);
 
             // Klik OK pada alert
             alert.accept();
-            test.log(Status.PASS, "Alert berhasil ditangani (Accepted)");
+            getTest().log(Status.PASS, "Alert berhasil ditangani (Accepted)");
 
         } catch (NoAlertPresentException e) {
             // Jika tidak ada alert, mungkin behavior web berubah, lanjut validasi biasa
-            test.log(Status.INFO, "Tidak ada alert yang muncul, melanjutkan verifikasi halaman");
+            getTest().log(Status.INFO, "Tidak ada alert yang muncul, melanjutkan verifikasi halaman");
             int resultCount = homePage.getSearchResultCount();
-            test.log(Status.INFO, "Jumlah hasil: " + resultCount);
+            getTest().log(Status.INFO, "Jumlah hasil: " + resultCount);
         } catch (Exception e) {
-            test.log(Status.FAIL, "Error saat menangani alert: " + e.getMessage());
+            getTest().log(Status.FAIL, "Error saat menangani alert: " + e.getMessage());
         }
     }
 
     @Test(priority = 4, description = "Test validasi jumlah hasil search")
     public void testSearchResultCountValidation() {
-        test.log(Status.INFO, "Memulai test validasi jumlah hasil search");
+        getTest().log(Status.INFO, "Memulai test validasi jumlah hasil search");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
 
         // Search buku
         homePage.search("book");
-        test.log(Status.INFO, "Search keyword: book");
+        getTest().log(Status.INFO, "Search keyword: book");
 
         // Verifikasi jumlah hasil reasonable
         int resultCount = homePage.getSearchResultCount();
@@ -103,22 +104,22 @@ public class ProductSearchTest extends BaseTest {
         if (resultCount > 0) {
             String productName = homePage.getProductTitle(0);
             Assert.assertFalse(productName.isEmpty(), "Judul produk harus ditampilkan");
-            test.log(Status.INFO, "Produk pertama: " + productName);
+            getTest().log(Status.INFO, "Produk pertama: " + productName);
         }
 
-        test.log(Status.PASS, "Validasi jumlah hasil berhasil - " + resultCount + " produk");
+        getTest().log(Status.PASS, "Validasi jumlah hasil berhasil - " + resultCount + " produk");
     }
 
     @Test(priority = 5, description = "Test search filter functionality")
     public void testSearchFilterFunctionality() {
-        test.log(Status.INFO, "Memulai test search filter");
+        getTest().log(Status.INFO, "Memulai test search filter");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
 
         // Search software
         homePage.search("software");
-        test.log(Status.INFO, "Search keyword: software");
+        getTest().log(Status.INFO, "Search keyword: software");
 
         // Verifikasi search bekerja
         int resultCount = homePage.getSearchResultCount();
@@ -126,28 +127,28 @@ public class ProductSearchTest extends BaseTest {
         // Gunakan if agar test tidak fail jika memang tidak ada produk software saat itu
         if (resultCount >= 0) {
             Assert.assertTrue(resultCount >= 0, "Search harus bekerja tanpa error");
-            test.log(Status.PASS, "Search filter test berhasil - " + resultCount + " hasil");
+            getTest().log(Status.PASS, "Search filter test berhasil - " + resultCount + " hasil");
         }
     }
 
     @Test(priority = 6, description = "Test search sorting options")
     public void testSearchSortingOptions() {
-        test.log(Status.INFO, "Memulai test search sorting");
+        getTest().log(Status.INFO, "Memulai test search sorting");
 
-        HomePage homePage = new HomePage(driver);
+        HomePage homePage = pages().home();
         homePage.goToHomePage();
 
         // Search computer
         homePage.search("computer");
-        test.log(Status.INFO, "Search keyword: computer");
+        getTest().log(Status.INFO, "Search keyword: computer");
 
         int resultCount = homePage.getSearchResultCount();
 
         if (resultCount > 0) {
             Assert.assertTrue(resultCount > 0, "Harus ada hasil untuk test sorting");
-            test.log(Status.PASS, "Search sorting test berhasil - " + resultCount + " produk");
+            getTest().log(Status.PASS, "Search sorting test berhasil - " + resultCount + " produk");
         } else {
-            test.log(Status.WARNING, "Tidak ada produk untuk di-sort, test dilewati");
+            getTest().log(Status.WARNING, "Tidak ada produk untuk di-sort, test dilewati");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.praktikum.testing.otomation.test;
+
+import com.praktikum.testing.otomation.utils.TestConfig;
+import com.praktikum.testing.otomation.utils.TestDurationHistory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Membagi test method ke beberapa JVM/agent CI: -Dshard.index=0..N-1 -Dshard.total=N.
+ * Semua method di suite dibagi sekaligus dengan LPT (longest processing time first) memakai
+ * durasi dari TestDurationHistory, jadi setiap shard mendapat total durasi yang hampir sama.
+ *
+ * Pembagian deterministik selama input sama: setiap agent harus memakai file riwayat yang sama
+ * (mis. di-restore dari cache CI yang sama), kalau tidak ada method yang dobel atau terlewat.
+ * Tanpa riwayat, semua method dianggap sama lama sehingga dibagi rata berdasarkan jumlah.
+ */
+public class ShardingInterceptor implements IMethodInterceptor {
+
+    // Dihitung sekali per JVM; intercept dipanggil sekali untuk setiap <test> di testng.xml
+    private static Set<String> assigned;
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = TestConfig.getShardTotal();
+        if (total <= 1) {
+            return methods;
+        }
+        Set<String> shard = assignedMethods(context.getSuite().getAllMethods(), TestConfig.getShardIndex(), total);
+        List<IMethodInstance> kept = methods.stream()
+                .filter(instance -> shard.contains(key(instance.getMethod())))
+                .toList();
+        System.out.println("Shard " + TestConfig.getShardIndex() + "/" + total + ": " + kept.size() + " dari "
+                + methods.size() + " method di '" + context.getName() + "'");
+        return kept;
+    }
+
+    private static synchronized Set<String> assignedMethods(List<ITestNGMethod> allMethods, int index, int total) {
+        if (assigned == null) {
+            if (index < 0 || index >= total) {
+                throw new IllegalArgumentException("shard.index harus 0.." + (total - 1) + ", bukan " + index);
+            }
+            TestDurationHistory history = TestDurationHistory.load();
+            // Urutan stabil: durasi terlama dulu, lalu nama
+            Set<String> keys = new TreeSet<>();
+            allMethods.forEach(method -> keys.add(key(method)));
+            List<String> ordered = keys.stream()
+                    .sorted(Comparator.comparingLong(history::estimate).reversed())
+                    .toList();
+
+            long[] load = new long[total];
+            Set<String> mine = new HashSet<>();
+            for (String key : ordered) {
+                int target = 0;
+                for (int i = 1; i < total; i++) {
+                    if (load[i] < load[target]) {
+                        target = i;
+                    }
+                }
+                load[target] += history.estimate(key);
+                if (target == index) {
+                    mine.add(key);
+                }
+            }
+            System.out.println("Shard load perkiraan (ms): " + Arrays.toString(load)
+                    + (history.isEmpty() ? " - belum ada riwayat durasi, dibagi berdasarkan jumlah method" : ""));
+            assigned = mine;
+        }
+        return assigned;
+    }
+
+    static String key(ITestNGMethod method) {
+        return TestDurationHistory.key(method.getRealClass().getName(), method.getMethodName());
+    }
+}
@@ -1,6 +1,7 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.Alert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
@@ -20,7 +21,7 @@ public class AlertHandlingDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -30,7 +31,7 @@ public class AlertHandlingDemo {
     public void demonstrateSimpleAlert() {
         System.out.println("\n=== SIMPLE ALERT DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/javascript_alerts");
+        driver.get(TestConfig.getInternetBaseUrl() + "/javascript_alerts");
 
         // Click button to trigger alert
         driver.findElement(By.xpath("//button[text()='Click for JS Alert']")).click();
@@ -61,7 +62,7 @@ public class AlertHandlingDemo {
     public void demonstrateConfirmAlert() {
         System.out.println("\n=== CONFIRM ALERT DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/javascript_alerts");
+        driver.get(TestConfig.getInternetBaseUrl() + "/javascript_alerts");
 
         // Test ACCEPT confirm
         System.out.println("\nTest 1: Accept Confirm");
@@ -91,7 +92,7 @@ public class AlertHandlingDemo {
     public void demonstratePromptAlert() {
         System.out.println("\n=== PROMPT ALERT DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/javascript_alerts");
+        driver.get(TestConfig.getInternetBaseUrl() + "/javascript_alerts");
 
         // Click prompt button
         driver.findElement(By.xpath("//button[text()='Click for JS Prompt']")).click();
@@ -122,7 +123,7 @@ public class AlertHandlingDemo {
     public void demonstrateAlertMethods() {
         System.out.println("\n=== ALL ALERT METHODS ===");
 
-        driver.get("https://the-internet.herokuapp.com/javascript_alerts");
+        driver.get(TestConfig.getInternetBaseUrl() + "/javascript_alerts");
 
         // Trigger alert
         driver.findElement(By.xpath("//button[text()='Click for JS Alert']")).click();
@@ -1,6 +1,7 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -16,7 +17,7 @@ public class FormInteractionDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
     }
@@ -26,7 +27,7 @@ public class FormInteractionDemo {
         System.out.println("\n=== TEST: SUCCESSFUL LOGIN ===");
 
         // Navigate to login page
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
         System.out.println("Navigated to login page");
 
         // Find and interact with username field
@@ -65,7 +66,7 @@ public class FormInteractionDemo {
     public void testInvalidLogin() {
         System.out.println("\n=== TEST: INVALID LOGIN ===");
 
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         // Enter invalid credentials
         driver.findElement(By.id("username")).sendKeys("invaliduser");
@@ -87,7 +88,7 @@ public class FormInteractionDemo {
     public void testEmptyFormSubmission() {
         System.out.println("\n=== TEST: EMPTY FORM SUBMISSION ===");
 
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         // Submit without entering credentials
         driver.findElement(By.cssSelector("button[type='submit']")).click();
@@ -105,7 +106,7 @@ public class FormInteractionDemo {
         System.out.println("\n=== DEMONSTRATING FORM ELEMENTS ===");
 
         // Navigate to form page with various elements
-        driver.get("https://the-internet.herokuapp.com/inputs");
+        driver.get(TestConfig.getInternetBaseUrl() + "/inputs");
 
         // Working with input field
         WebElement inputField = driver.findElement(By.tagName("input"));
@@ -131,7 +132,7 @@ public class FormInteractionDemo {
     public void demonstrateCheckboxes() {
         System.out.println("\n=== DEMONSTRATING CHECKBOXES ===");
 
-        driver.get("https://the-internet.herokuapp.com/checkboxes");
+        driver.get(TestConfig.getInternetBaseUrl() + "/checkboxes");
 
         // Find all checkboxes
         WebElement checkbox1 = driver.findElement(By.xpath("(//input[@type='checkbox'])[1]"));
@@ -163,7 +164,7 @@ public class FormInteractionDemo {
     public void demonstrateDropdown() {
         System.out.println("\n=== DEMONSTRATING DROPDOWN ===");
 
-        driver.get("https://the-internet.herokuapp.com/dropdown");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dropdown");
 
         // Import Select class
         WebElement dropdownElement = driver.findElement(By.id("dropdown"));
@@ -1,7 +1,8 @@
 package com.praktikum.testing.otomation.test.demo;
 
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
 import com.praktikum.testing.otomation.utils.ScreenshotUtil;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
@@ -22,7 +23,7 @@ public class JavaScriptExecutorDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
         js = (JavascriptExecutor) driver;
@@ -33,7 +34,7 @@ public class JavaScriptExecutorDemo {
     public void demonstrateJavaScriptExecution() {
         System.out.println("\n=== JAVASCRIPT EXECUTOR DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         // 1. Execute simple JavaScript
         System.out.println("\n1. Getting page title via JavaScript:");
@@ -117,7 +118,7 @@ public class JavaScriptExecutorDemo {
     public void demonstrateAdvancedJavaScriptOperations() {
         System.out.println("\n=== ADVANCED JAVASCRIPT OPERATIONS ===");
 
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         // 1. Create and add new element via JavaScript
         System.out.println("\n1. Creating new element via JavaScript:");
@@ -170,7 +171,7 @@ public class JavaScriptExecutorDemo {
         System.out.println("\n=== SCREENSHOT CAPTURE DEMO ===");
 
         // Navigate to page
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
         System.out.println("   Navigated to login page");
 
         // Capture screenshot 1 - Initial page
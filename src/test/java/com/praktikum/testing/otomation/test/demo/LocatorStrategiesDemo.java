@@ -1,6 +1,7 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -19,7 +20,7 @@ public class LocatorStrategiesDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
@@ -28,7 +29,7 @@ public class LocatorStrategiesDemo {
     @Test
     public void demonstrateAllLocators() {
         // Navigate to demo site
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         System.out.println("--- DEMONSTRATING ALL LOCATOR STRATEGIES ---\n");
 
@@ -123,7 +124,7 @@ public class LocatorStrategiesDemo {
 
     @Test
     public void demonstrateLocatorBestPractices() {
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         System.out.println("\n=== LOCATOR BEST PRACTICES ===\n");
 
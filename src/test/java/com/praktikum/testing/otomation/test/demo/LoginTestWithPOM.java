@@ -2,7 +2,7 @@ package com.praktikum.testing.otomation.test.demo;
 
 import com.praktikum.testing.otomation.pages.demo.LoginPage;
 import com.praktikum.testing.otomation.pages.demo.SecurePage;
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.Assert;
@@ -17,7 +17,7 @@ public class LoginTestWithPOM {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
 
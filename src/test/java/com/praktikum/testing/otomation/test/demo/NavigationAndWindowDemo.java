@@ -1,6 +1,7 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.support.ui.*;
@@ -15,7 +16,7 @@ public class NavigationAndWindowDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
     }
@@ -24,7 +25,7 @@ public class NavigationAndWindowDemo {
     public void demonstrateNavigation() {
         System.out.println("\n=== NAVIGATION COMMANDS ===");
 
-        driver.get("https://the-internet.herokuapp.com/");
+        driver.get(TestConfig.getInternetBaseUrl() + "/");
         System.out.println("Navigated to homepage");
         System.out.println("Current URL: " + driver.getCurrentUrl());
 
@@ -43,7 +44,7 @@ public class NavigationAndWindowDemo {
         driver.navigate().refresh();
         System.out.println("Page refreshed");
 
-        driver.navigate().to("https://the-internet.herokuapp.com/dropdown");
+        driver.navigate().to(TestConfig.getInternetBaseUrl() + "/dropdown");
         System.out.println("Navigated to dropdown page");
         System.out.println("Current URL: " + driver.getCurrentUrl());
 
@@ -54,7 +55,7 @@ public class NavigationAndWindowDemo {
     public void demonstrateMultipleWindows() {
         System.out.println("\n=== MULTIPLE WINDOWS HANDLING ===");
 
-        driver.get("https://the-internet.herokuapp.com/windows");
+        driver.get(TestConfig.getInternetBaseUrl() + "/windows");
 
         String originalWindow = driver.getWindowHandle();
         System.out.println("Original window handle: " + originalWindow);
@@ -98,7 +99,7 @@ public class NavigationAndWindowDemo {
     public void demonstrateIframes() {
         System.out.println("\n=== IFRAME HANDLING ===");
 
-        driver.get("https://the-internet.herokuapp.com/iframe");
+        driver.get(TestConfig.getInternetBaseUrl() + "/iframe");
 
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         JavascriptExecutor js = (JavascriptExecutor) driver;
@@ -1,6 +1,6 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.testng.Assert;
@@ -13,8 +13,8 @@ public class SetupVerificationTest {
 
     @BeforeMethod
     public void setUp() {
-        // Setup ChromeDriver using WebDriverManager
-        WebDriverManager.chromedriver().setup();
+        // Setup ChromeDriver (di-resolve sekali per suite, lihat DriverBinaryResolver)
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
     }
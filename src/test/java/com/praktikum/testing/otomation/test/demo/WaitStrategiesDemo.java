@@ -1,6 +1,7 @@
 package com.praktikum.testing.otomation.test.demo;
 
-import io.github.bonigarcia.wdm.WebDriverManager;
+import com.praktikum.testing.otomation.utils.DriverBinaryResolver;
+import com.praktikum.testing.otomation.utils.TestConfig;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -22,7 +23,7 @@ public class WaitStrategiesDemo {
 
     @BeforeMethod
     public void setUp() {
-        WebDriverManager.chromedriver().setup();
+        DriverBinaryResolver.resolveChromeDriver();
         driver = new ChromeDriver();
         driver.manage().window().maximize();
     }
@@ -35,7 +36,7 @@ public class WaitStrategiesDemo {
         driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
         System.out.println("   Set implicit wait: 10 seconds");
 
-        driver.get("https://the-internet.herokuapp.com/dynamic_loading/1");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dynamic_loading/1");
 
         // Click start button
         driver.findElement(By.cssSelector("#start button")).click();
@@ -59,7 +60,7 @@ public class WaitStrategiesDemo {
     public void demonstrateExplicitWait() {
         System.out.println("\n=== EXPLICIT WAIT DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/dynamic_loading/1");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dynamic_loading/1");
 
         // Click start button
         driver.findElement(By.cssSelector("#start button")).click();
@@ -83,7 +84,7 @@ public class WaitStrategiesDemo {
     public void demonstrateExplicitWaitConditions() {
         System.out.println("\n=== VARIOUS WAIT CONDITIONS ===");
 
-        driver.get("https://the-internet.herokuapp.com/dynamic_loading/2");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dynamic_loading/2");
         WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
 
         // Click start
@@ -103,7 +104,7 @@ public class WaitStrategiesDemo {
 
         // PERBAIKAN: Navigate properly and wait for page load
         System.out.println("\n3. Navigating to login page:");
-        driver.get("https://the-internet.herokuapp.com/login");
+        driver.get(TestConfig.getInternetBaseUrl() + "/login");
 
         // Wait for page to load completely
         wait.until(ExpectedConditions.titleContains("The Internet"));
@@ -147,7 +148,7 @@ public class WaitStrategiesDemo {
     public void demonstrateFluentWait() {
         System.out.println("\n=== FLUENT WAIT DEMO ===");
 
-        driver.get("https://the-internet.herokuapp.com/dynamic_loading/1");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dynamic_loading/1");
 
         // Click start
         driver.findElement(By.cssSelector("#start button")).click();
@@ -184,7 +185,7 @@ public class WaitStrategiesDemo {
     public void demonstrateFluentWaitWithExpectedConditions() {
         System.out.println("\n=== FLUENT WAIT WITH EXPECTED CONDITIONS ===");
 
-        driver.get("https://the-internet.herokuapp.com/dynamic_loading/2");
+        driver.get(TestConfig.getInternetBaseUrl() + "/dynamic_loading/2");
 
         // Click start
         driver.findElement(By.cssSelector("#start button")).click();